@@ -0,0 +1,73 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Random;
+
+/**
+ * Input shapes for the sorting benchmarks
+ * 
+ * Each shape stresses a different part of the sorters: random input is the average
+ * case, sorted and reversed input reward run detection and punish naive pivots,
+ * few-unique input exercises duplicate handling, and organ-pipe and sawtooth inputs
+ * contain a handful of long runs that adaptive merges can exploit.
+ */
+public enum Distribution {
+    
+    RANDOM {
+        @Override
+        int value(int i, int size, Random random) {
+            return random.nextInt();
+        }
+    },
+    
+    SORTED {
+        @Override
+        int value(int i, int size, Random random) {
+            return i;
+        }
+    },
+    
+    REVERSED {
+        @Override
+        int value(int i, int size, Random random) {
+            return size - i;
+        }
+    },
+    
+    /** Only 8 distinct values */
+    FEW_UNIQUE {
+        @Override
+        int value(int i, int size, Random random) {
+            return random.nextInt(8);
+        }
+    },
+    
+    /** Ascending to the middle, then descending */
+    ORGAN_PIPE {
+        @Override
+        int value(int i, int size, Random random) {
+            return i < size / 2 ? i : size - i;
+        }
+    },
+    
+    /** Ascending runs of size / 8 elements, so eight teeth for sizes divisible by 8 */
+    SAWTOOTH {
+        @Override
+        int value(int i, int size, Random random) {
+            return i % Math.max(1, size / 8);
+        }
+    };
+    
+    abstract int value(int i, int size, Random random);
+    
+    /**
+     * Builds an input of the given size; the same seed always gives the same array
+     */
+    public int[] generate(int size, long seed) {
+        Random random = new Random(seed);
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = value(i, size, random);
+        }
+        return arr;
+    }
+}
\ No newline at end of file
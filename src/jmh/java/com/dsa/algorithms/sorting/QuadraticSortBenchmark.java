@@ -0,0 +1,61 @@
+package com.dsa.algorithms.sorting;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the O(n²) sorters, capped at 10000 elements
+ * 
+ * Bubble, selection and insertion sort would take hours per operation at the upper
+ * sizes of SortBenchmark, so they get their own, smaller size range. QUICK is included
+ * as a baseline to show where the simple sorts stop paying off.
+ * 
+ * Run these benchmarks from command line:
+ * ./gradlew jmh -PjmhArgs="QuadraticSortBenchmark"
+ * ./gradlew jmh -PjmhArgs="QuadraticSortBenchmark -p size=10,100"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuadraticSortBenchmark {
+    
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+    
+    @Param
+    private Distribution distribution;
+    
+    @Param({"BUBBLE", "SELECTION", "INSERTION", "SMALL", "QUICK"})
+    private SortAlgorithm algorithm;
+    
+    private int[] input;
+    private int[] work;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = distribution.generate(size, 42);
+        work = new int[size];
+    }
+    
+    @Benchmark
+    public int[] sort() {
+        System.arraycopy(input, 0, work, 0, size);
+        algorithm.sort(work);
+        return work;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.dsa.algorithms.sorting;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the O(n log n) and radix sorters from 10 to 10M elements
+ * 
+ * Every invocation copies the prepared input into a work array and sorts that, so each
+ * operation sorts the same unsorted data. The copy is an O(n) arraycopy and is small
+ * next to the sort. The work array is allocated once per trial, so the GC profiler's
+ * gc.alloc.rate.norm shows only what the sorter itself allocates per call.
+ * 
+ * Run these benchmarks from command line:
+ * ./gradlew jmh -PjmhArgs="SortBenchmark"
+ * ./gradlew jmh -PjmhArgs="SortBenchmark -p size=100000 -p distribution=RANDOM"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SortBenchmark {
+    
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+    
+    @Param
+    private Distribution distribution;
+    
+    /** A SortAlgorithm name, or ADAPTIVE for the sampling dispatcher */
+    @Param({"MERGE", "IN_PLACE_MERGE", "TIM", "QUICK", "DUAL_PIVOT_QUICK", "VECTORIZED", "RADIX", "PARALLEL_RADIX", "ADAPTIVE"})
+    private String algorithm;
+    
+    private Sorter sorter;
+    private int[] input;
+    private int[] work;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        sorter = "ADAPTIVE".equals(algorithm) ? new AdaptiveSorter() : SortAlgorithm.valueOf(algorithm);
+        input = distribution.generate(size, 42);
+        work = new int[size];
+    }
+    
+    @Benchmark
+    public int[] sort() {
+        System.arraycopy(input, 0, work, 0, size);
+        sorter.sort(work);
+        return work;
+    }
+}
\ No newline at end of file
@@ -67,58 +67,49 @@ public class Sorting {
     
     /**
      * Merge sort implementation
-     * Time: O(n log n), Space: O(n)
+     * Time: O(n log n), Space: O(n) for one scratch array
      */
     public static void mergeSort(int[] arr) {
         if (arr == null || arr.length <= 1) return;
         
-        mergeSortHelper(arr, 0, arr.length - 1);
+        int[] temp = new int[arr.length];
+        mergeSortHelper(arr, temp, 0, arr.length - 1);
     }
     
-    private static void mergeSortHelper(int[] arr, int left, int right) {
+    private static void mergeSortHelper(int[] arr, int[] temp, int left, int right) {
         if (left < right) {
             int mid = left + (right - left) / 2;
             
-            mergeSortHelper(arr, left, mid);
-            mergeSortHelper(arr, mid + 1, right);
-            merge(arr, left, mid, right);
+            mergeSortHelper(arr, temp, left, mid);
+            mergeSortHelper(arr, temp, mid + 1, right);
+            merge(arr, temp, left, mid, right);
         }
     }
     
-    private static void merge(int[] arr, int left, int mid, int right) {
-        int n1 = mid - left + 1;
-        int n2 = right - mid;
+    private static void merge(int[] arr, int[] temp, int left, int mid, int right) {
+        // Reuses the single scratch array allocated by mergeSort instead of allocating per merge
+        System.arraycopy(arr, left, temp, left, right - left + 1);
         
-        int[] leftArr = new int[n1];
-        int[] rightArr = new int[n2];
+        int i = left, j = mid + 1, k = left;
         
-        System.arraycopy(arr, left, leftArr, 0, n1);
-        System.arraycopy(arr, mid + 1, rightArr, 0, n2);
-        
-        int i = 0, j = 0, k = left;
-        
-        while (i < n1 && j < n2) {
-            if (leftArr[i] <= rightArr[j]) {
-                arr[k] = leftArr[i];
+        while (i <= mid && j <= right) {
+            if (temp[i] <= temp[j]) {
+                arr[k] = temp[i];
                 i++;
             } else {
-                arr[k] = rightArr[j];
+                arr[k] = temp[j];
                 j++;
             }
             k++;
         }
         
-        while (i < n1) {
-            arr[k] = leftArr[i];
+        while (i <= mid) {
+            arr[k] = temp[i];
             i++;
             k++;
         }
         
-        while (j < n2) {
-            arr[k] = rightArr[j];
-            j++;
-            k++;
-        }
+        // Any remaining right-half elements are already in place
     }
     
     /**
@@ -0,0 +1,150 @@
+package com.dsa.algorithms.searching;
+
+import java.util.Arrays;
+
+/**
+ * Batch Search Implementation (many keys against one sorted array)
+ * 
+ * Time Complexity: O(m log n), or O(m + n) for a dense batch of sorted keys
+ * Space Complexity: O(1)
+ * 
+ * Looking keys up one at a time wastes most of the time waiting on memory: each probe
+ * depends on the previous one, so a large array costs a cache miss per step with nothing
+ * else to do. searchAll and lowerBoundAll answer a whole batch in one call and pick one of
+ * two strategies:
+ * - Interleaved: run GROUP_SIZE branch-free searches in lockstep. The sorted array's length
+ *   alone fixes the number of steps, so the searches stay in step and their loads are
+ *   independent; the CPU overlaps their misses instead of paying for them one at a time.
+ * - Merge: when the keys are already in ascending order and the batch is large compared
+ *   with a big array, answer them all in one forward scan of the array.
+ * 
+ * Unsorted keys always take the interleaved path: ordering them for the merge scan would
+ * need an O(m) permutation per call. Results are written to a caller-provided array, so
+ * a call allocates nothing per key.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "BatchSearchTest"
+ * ./gradlew test --tests "com.dsa.algorithms.searching.BatchSearchTest"
+ * ./gradlew test --tests "*BatchSearch*"
+ */
+public class BatchSearch {
+    
+    /** Number of searches run in lockstep; enough to keep the CPU's miss buffers busy */
+    private static final int GROUP_SIZE = 16;
+    
+    /** Smallest array worth a merge scan; below this the array stays in cache and interleaving wins */
+    private static final int MERGE_MIN_LENGTH = 1 << 20;
+    
+    /** The merge scan is used when there is at least one key per DENSE_RATIO array elements */
+    private static final int DENSE_RATIO = 8;
+    
+    /**
+     * Finds every key in a sorted array
+     * @param sorted the array to search, in ascending order (null is treated as empty)
+     * @param keys the values to search for
+     * @param out receives, for each keys[i], the index of its first occurrence or -1
+     */
+    public static void searchAll(int[] sorted, int[] keys, int[] out) {
+        lowerBoundAll(sorted, keys, out);
+        int n = sorted == null ? 0 : sorted.length;
+        for (int i = 0; i < keys.length; i++) {
+            int index = out[i];
+            if (index == n || sorted[index] != keys[i]) {
+                out[i] = -1;
+            }
+        }
+    }
+    
+    /**
+     * Finds the lower bound of every key in a sorted array
+     * @param sorted the array to search, in ascending order (null is treated as empty)
+     * @param keys the values to search for
+     * @param out receives, for each keys[i], the index of the first element >= keys[i],
+     *            or sorted.length if there is none
+     */
+    public static void lowerBoundAll(int[] sorted, int[] keys, int[] out) {
+        if (keys == null || out == null) {
+            throw new IllegalArgumentException("Keys and output arrays cannot be null");
+        }
+        if (out.length < keys.length) {
+            throw new IllegalArgumentException("Output array is shorter than the keys array");
+        }
+        if (sorted == null || sorted.length == 0) {
+            Arrays.fill(out, 0, keys.length, 0);
+            return;
+        }
+        
+        if (usesMergeScan(sorted.length, keys)) {
+            mergeLowerBounds(sorted, keys, out);
+        } else {
+            interleavedLowerBounds(sorted, keys, out);
+        }
+    }
+    
+    /**
+     * Decides between the two strategies for a batch of keys against n sorted elements
+     * @return true for the merge scan, false for interleaved searches
+     */
+    static boolean usesMergeScan(int n, int[] keys) {
+        if (n < MERGE_MIN_LENGTH || (long) keys.length * DENSE_RATIO < n) {
+            return false;
+        }
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] > keys[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Runs the searches GROUP_SIZE at a time in lockstep; any remainder is searched alone
+     */
+    private static void interleavedLowerBounds(int[] sorted, int[] keys, int[] out) {
+        int n = sorted.length;
+        int m = keys.length;
+        int[] base = new int[GROUP_SIZE];
+        
+        int start = 0;
+        for (; start + GROUP_SIZE <= m; start += GROUP_SIZE) {
+            Arrays.fill(base, 0);
+            // Same invariant as BinarySearch.branchlessLowerBound, for every search in the group
+            int length = n;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int j = 0; j < GROUP_SIZE; j++) {
+                    base[j] += isBelow(sorted[base[j] + half], keys[start + j]) * half;
+                }
+                length -= half;
+            }
+            for (int j = 0; j < GROUP_SIZE; j++) {
+                out[start + j] = base[j] + isBelow(sorted[base[j]], keys[start + j]);
+            }
+        }
+        for (int i = start; i < m; i++) {
+            out[i] = BinarySearch.branchlessLowerBound(sorted, keys[i]);
+        }
+    }
+    
+    /**
+     * Answers keys given in ascending order by continuing one forward scan of the array
+     */
+    private static void mergeLowerBounds(int[] sorted, int[] keys, int[] out) {
+        int n = sorted.length;
+        int position = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int key = keys[i];
+            while (position < n && sorted[position] < key) {
+                position++;
+            }
+            out[i] = position;
+        }
+    }
+    
+    /**
+     * @return 1 if value < key, otherwise 0, computed without a branch
+     */
+    private static int isBelow(int value, int key) {
+        return (int) (((long) value - key) >>> 63);
+    }
+}
\ No newline at end of file
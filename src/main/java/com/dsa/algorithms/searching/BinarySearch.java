@@ -1,5 +1,7 @@
 package com.dsa.algorithms.searching;
 
+import java.util.Objects;
+
 /**
  * Binary Search Implementation
  * 
@@ -11,6 +13,25 @@ package com.dsa.algorithms.searching;
  * 
  * Prerequisites: The input array must be sorted in ascending order.
  * 
+ * lowerBound, upperBound and equalRange return insertion points instead of "some index
+ * or -1", so they also answer where a missing key would go and how many copies of a
+ * key there are.
+ * 
+ * branchlessLowerBound computes the same result as lowerBound without a data-dependent
+ * branch, so random lookups no longer pay for a mispredicted branch per level:
+ * - each step moves the base by (probe < key) * half, with the comparison taken from
+ *   the sign bit of a long subtraction; a plain ternary is not reliably compiled to a
+ *   conditional move, which is what this spells out
+ * - the trip count depends only on the length, never on the data
+ * - Java has no software prefetch instruction, so both elements the next step could
+ *   probe are loaded before the current comparison is resolved and the right one is
+ *   selected afterwards; on arrays far larger than the cache this keeps the loads in
+ *   flight the way a branch predictor's speculation would
+ * 
+ * The branchless form wins clearly while the array fits in cache; on arrays far larger
+ * than the cache both forms are bound by memory latency, and a cache-friendly layout
+ * such as the Eytzinger order helps more.
+ * 
  * Test this implementation:
  * ./gradlew test --tests "BinarySearchTest"
  * ./gradlew test --tests "com.dsa.algorithms.searching.BinarySearchTest"
@@ -44,4 +65,149 @@ public class BinarySearch {
         
         return -1;
     }
+    
+    /**
+     * Finds the first position whose element is not less than the key
+     * @param arr the sorted array to search in
+     * @param key the value to search for
+     * @return the index of the first element >= key, or arr.length if there is none
+     */
+    public static int lowerBound(int[] arr, int key) {
+        if (arr == null) return 0;
+        
+        return lowerBound(arr, 0, arr.length, key);
+    }
+    
+    /**
+     * Finds the first position in arr[fromIndex, toIndex) whose element is not less than the key
+     * @param arr the array containing the sorted range to search (null is treated as empty and gives fromIndex)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @param key the value to search for
+     * @return the index of the first element >= key, or toIndex if there is none
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int lowerBound(int[] arr, int fromIndex, int toIndex, int key) {
+        if (arr == null) return fromIndex;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        int left = fromIndex;
+        int right = toIndex;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (arr[mid] < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+    
+    /**
+     * Finds the first position whose element is greater than the key
+     * @param arr the sorted array to search in
+     * @param key the value to search for
+     * @return the index of the first element > key, or arr.length if there is none
+     */
+    public static int upperBound(int[] arr, int key) {
+        if (arr == null) return 0;
+        
+        return upperBound(arr, 0, arr.length, key);
+    }
+    
+    /**
+     * Finds the first position in arr[fromIndex, toIndex) whose element is greater than the key
+     * @param arr the array containing the sorted range to search (null is treated as empty and gives fromIndex)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @param key the value to search for
+     * @return the index of the first element > key, or toIndex if there is none
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int upperBound(int[] arr, int fromIndex, int toIndex, int key) {
+        if (arr == null) return fromIndex;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        int left = fromIndex;
+        int right = toIndex;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (arr[mid] <= key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+    
+    /**
+     * Finds the range of positions holding the key
+     * @param arr the sorted array to search in
+     * @param key the value to search for
+     * @return {lowerBound, upperBound}; the key occurs upperBound - lowerBound times, and
+     *         when it is missing both values are the position where it would be inserted
+     */
+    public static int[] equalRange(int[] arr, int key) {
+        if (arr == null) return new int[]{0, 0};
+        
+        int low = lowerBound(arr, 0, arr.length, key);
+        // Every element before low is smaller than the key, so upperBound can start there
+        return new int[]{low, upperBound(arr, low, arr.length, key)};
+    }
+    
+    /**
+     * Finds the first position whose element is not less than the key, without branching
+     * on the comparisons
+     * @param arr the sorted array to search in
+     * @param key the value to search for
+     * @return the index of the first element >= key, or arr.length if there is none
+     */
+    public static int branchlessLowerBound(int[] arr, int key) {
+        if (arr == null) return 0;
+        
+        return branchlessLowerBound(arr, 0, arr.length, key);
+    }
+    
+    /**
+     * Finds the first position in arr[fromIndex, toIndex) whose element is not less than
+     * the key, without branching on the comparisons
+     * @param arr the array containing the sorted range to search (null is treated as empty and gives fromIndex)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @param key the value to search for
+     * @return the index of the first element >= key, or toIndex if there is none
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int branchlessLowerBound(int[] arr, int fromIndex, int toIndex, int key) {
+        if (arr == null) return fromIndex;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        int length = toIndex - fromIndex;
+        if (length == 0) return fromIndex;
+        
+        // Invariant: the answer is in [base, base + length]; every element before base is < key
+        int base = fromIndex;
+        int probe = arr[base + (length >>> 1)];
+        while (length > 1) {
+            int half = length >>> 1;
+            int nextLength = length - half;
+            int nextHalf = nextLength >>> 1;
+            
+            // Load both possible next probes now, before this comparison is resolved
+            int probeIfLow = arr[base + nextHalf];
+            int probeIfHigh = arr[base + half + nextHalf];
+            
+            int below = isBelow(probe, key);
+            base += below * half;
+            probe = probeIfLow + ((probeIfHigh - probeIfLow) & -below);
+            length = nextLength;
+        }
+        return base + isBelow(arr[base], key);
+    }
+    
+    /** 1 if value < key, else 0, computed from the sign of the exact difference */
+    private static int isBelow(int value, int key) {
+        return (int) (((long) value - key) >>> 63);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.dsa.algorithms.searching;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Exponential Search Implementation (galloping search)
+ * 
+ * Time Complexity: O(log d), where d is the distance from the starting point to the answer
+ * Space Complexity: O(1)
+ * 
+ * Exponential search first brackets the answer by probing at distances 1, 2, 4, 8, ...
+ * from a starting point, then runs a binary search inside the bracket. Its cost depends
+ * on how far the answer is, not on how long the array is:
+ * - with a hint (the previous answer, an estimate, a cursor) lookups near the hint are
+ *   nearly constant time, whichever side of the hint the answer is on
+ * - without a hint it starts at the front, so small answers in huge arrays stay cheap
+ * - unboundedLowerBound needs no length at all, only a way to ask "is the element at
+ *   index i below the key?", which suits streams and lazily loaded data
+ * 
+ * Prerequisites: The input must be sorted in ascending order.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "ExponentialSearchTest"
+ * ./gradlew test --tests "com.dsa.algorithms.searching.ExponentialSearchTest"
+ * ./gradlew test --tests "*ExponentialSearch*"
+ */
+public class ExponentialSearch {
+    
+    /**
+     * Searches for a target value in a sorted array, galloping from the front
+     * @param arr the sorted array to search in
+     * @param target the value to search for
+     * @return index of the first occurrence of target if found, -1 if not found
+     */
+    public static int exponentialSearch(int[] arr, int target) {
+        return exponentialSearch(arr, 0, target);
+    }
+    
+    /**
+     * Searches for a target value in a sorted array, galloping from a hint
+     * @param arr the sorted array to search in
+     * @param hint the index to start from; values outside [0, arr.length] are clamped
+     * @param target the value to search for
+     * @return index of the first occurrence of target if found, -1 if not found
+     */
+    public static int exponentialSearch(int[] arr, int hint, int target) {
+        if (arr == null) return -1;
+        
+        int index = lowerBound(arr, hint, target);
+        return index < arr.length && arr[index] == target ? index : -1;
+    }
+    
+    /**
+     * Finds the first position whose element is not less than key, galloping from a hint
+     * @param arr the sorted array to search in
+     * @param hint the index to start from; values outside [0, arr.length] are clamped
+     * @param key the value to search for
+     * @return the index of the first element >= key, or arr.length if there is none
+     */
+    public static int lowerBound(int[] arr, int hint, int key) {
+        int n = arr.length;
+        int start = Math.max(0, Math.min(hint, n));
+        
+        if (start < n && arr[start] < key) {
+            // The answer is after start: gallop right until an element >= key (or the end)
+            int low = start + 1;
+            long step = 1;
+            int high = low;
+            while (high < n && arr[high] < key) {
+                low = high + 1;
+                step <<= 1;
+                high = (int) Math.min(n, start + step);
+            }
+            return BinarySearch.lowerBound(arr, low, Math.min(high, n), key);
+        }
+        
+        // The answer is at or before start: gallop left until an element < key (or the front)
+        int high = start;
+        long step = 1;
+        int low = start - 1;
+        while (low >= 0 && arr[low] >= key) {
+            high = low;
+            step <<= 1;
+            low = (int) Math.max(-1, start - step);
+        }
+        return BinarySearch.lowerBound(arr, low + 1, high, key);
+    }
+    
+    /**
+     * Finds the first index whose element is not less than a key, without knowing the length
+     * 
+     * Probes indexes 0, 1, 3, 7, 15, ... until one is not below the key, then
+     * bisects the last bracket. Indexes past the end of the data must report false.
+     * 
+     * @param isBelow tells whether the element at an index is less than the key
+     * @return the first index for which isBelow is false
+     * @throws IllegalArgumentException if isBelow is null
+     * @throws IllegalStateException if isBelow is still true at Integer.MAX_VALUE
+     */
+    public static int unboundedLowerBound(IntPredicate isBelow) {
+        if (isBelow == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+        
+        int low = 0;
+        long high = 0;
+        while (isBelow.test((int) high)) {
+            if (high == Integer.MAX_VALUE) {
+                throw new IllegalStateException("No index up to Integer.MAX_VALUE is past the key");
+            }
+            low = (int) high + 1;
+            high = Math.min(Integer.MAX_VALUE, 2 * high + 1);
+        }
+        
+        // Answer is in [low, high]: everything before low is below, high is not
+        int right = (int) high;
+        while (low < right) {
+            int mid = (low + right) >>> 1;
+            if (isBelow.test(mid)) {
+                low = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return low;
+    }
+}
\ No newline at end of file
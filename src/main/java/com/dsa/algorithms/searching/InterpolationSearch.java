@@ -0,0 +1,158 @@
+package com.dsa.algorithms.searching;
+
+import java.util.Objects;
+
+/**
+ * Interpolation Search Implementation
+ * 
+ * Time Complexity: O(log log n) on average for uniformly distributed keys, O(log n) worst case
+ * Space Complexity: O(1)
+ * 
+ * Binary search always probes the middle of the remaining range. Interpolation search
+ * guesses where the key should be from its value, the way one opens a phone book near
+ * the back for a name starting with W:
+ *   probe = low + (key - arr[low]) / (arr[high] - arr[low]) * (high - low)
+ * On evenly spread keys each guess lands close to the answer, and the range shrinks from
+ * n to about sqrt(n) per probe.
+ * 
+ * Plain interpolation search degrades to O(n) probes on skewed data (for example, one
+ * huge outlier at the end pulls every guess towards the front). This version keeps a
+ * binary search safeguard:
+ * - it allows about 2 * log2(log2 n) interpolation steps, twice what uniform keys need
+ * - whatever range is left after that is finished with BinarySearch.lowerBound
+ * - so skewed data costs at most O(log log n) wasted probes on top of binary search
+ * 
+ * A rule like "bisect whenever a guess fails to halve the range" fires far too often:
+ * a good guess lands right next to the key but only trims the range on one side.
+ * 
+ * Prerequisites: The input array must be sorted in ascending order.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "InterpolationSearchTest"
+ * ./gradlew test --tests "com.dsa.algorithms.searching.InterpolationSearchTest"
+ * ./gradlew test --tests "*InterpolationSearch*"
+ */
+public class InterpolationSearch {
+    
+    /**
+     * Searches for a target value in a sorted array using interpolation search
+     * @param arr the sorted array to search in
+     * @param target the value to search for
+     * @return index of the first occurrence of target if found, -1 if not found
+     */
+    public static int interpolationSearch(int[] arr, int target) {
+        if (arr == null) return -1;
+        
+        int index = lowerBound(arr, 0, arr.length, target);
+        return index < arr.length && arr[index] == target ? index : -1;
+    }
+    
+    /**
+     * Finds the first position whose element is not less than key
+     * @param arr the sorted array to search in
+     * @param fromIndex the start of the range (inclusive)
+     * @param toIndex the end of the range (exclusive)
+     * @param key the value to search for
+     * @return the index of the first element >= key, or toIndex if there is none
+     */
+    public static int lowerBound(int[] arr, int fromIndex, int toIndex, int key) {
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        // Invariant: the answer is in [low, high]
+        int low = fromIndex;
+        int high = toIndex;
+        int budget = interpolationBudget(toIndex - fromIndex);
+        while (low < high) {
+            int first = arr[low];
+            int last = arr[high - 1];
+            if (key <= first) return low;
+            if (key > last) return high;
+            if (budget-- == 0) {
+                return BinarySearch.lowerBound(arr, low, high, key);
+            }
+            
+            // Now first < key <= last, so the guess lands in [low, high - 1]
+            double fraction = ((double) key - first) / ((double) last - first);
+            int probe = low + (int) (fraction * (high - 1 - low));
+            if (arr[probe] < key) {
+                low = probe + 1;
+            } else {
+                high = probe;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * Searches for a target value in a sorted array using interpolation search
+     * @param arr the sorted array to search in
+     * @param target the value to search for
+     * @return index of the first occurrence of target if found, -1 if not found
+     */
+    public static int interpolationSearch(long[] arr, long target) {
+        if (arr == null) return -1;
+        
+        int index = lowerBound(arr, 0, arr.length, target);
+        return index < arr.length && arr[index] == target ? index : -1;
+    }
+    
+    /**
+     * Finds the first position whose element is not less than key
+     * @param arr the sorted array to search in
+     * @param fromIndex the start of the range (inclusive)
+     * @param toIndex the end of the range (exclusive)
+     * @param key the value to search for
+     * @return the index of the first element >= key, or toIndex if there is none
+     */
+    public static int lowerBound(long[] arr, int fromIndex, int toIndex, long key) {
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        int low = fromIndex;
+        int high = toIndex;
+        int budget = interpolationBudget(toIndex - fromIndex);
+        while (low < high) {
+            long first = arr[low];
+            long last = arr[high - 1];
+            if (key <= first) return low;
+            if (key > last) return high;
+            if (budget-- == 0) {
+                return binaryLowerBound(arr, low, high, key);
+            }
+            
+            // In doubles the differences cannot overflow; rounding only moves the guess,
+            // and a NaN from 0 / 0 casts to 0
+            double fraction = ((double) key - first) / ((double) last - first);
+            int probe = low + (int) (Math.min(fraction, 1.0) * (high - 1 - low));
+            if (arr[probe] < key) {
+                low = probe + 1;
+            } else {
+                high = probe;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * @return the number of interpolation steps allowed on a range of the given length
+     */
+    private static int interpolationBudget(int length) {
+        int log = 32 - Integer.numberOfLeadingZeros(length);
+        int logLog = 32 - Integer.numberOfLeadingZeros(log);
+        return 2 * logLog + 2;
+    }
+    
+    /**
+     * Plain binary search for the safeguard; BinarySearch only covers int arrays
+     */
+    private static int binaryLowerBound(long[] arr, int low, int high, long key) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,10 @@
 package com.dsa.algorithms.searching;
 
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Linear Search Implementation
  * 
@@ -9,6 +14,18 @@ package com.dsa.algorithms.searching;
  * Linear Search (Sequential Search) checks every element in the array sequentially
  * until the target element is found or the end of the array is reached.
  * 
+ * For large unsorted buffers the scan has faster variants:
+ * - vectorizedSearch, count and findAll compare a whole SIMD register of elements per
+ *   step through the JDK Vector API. As with VectorizedSort, the kernel lives in the
+ *   src/vector/java source set and is loaded by name; without it (or without
+ *   --add-modules jdk.incubator.vector) they run a scalar loop. isVectorized() reports
+ *   which path is in use.
+ * - parallelSearch splits the array across fork-join tasks and still returns the first
+ *   match. The lowest match found so far is shared, and a task stops as soon as its
+ *   next segment starts after it, so work past the answer is cut short.
+ * - findAll writes matching indexes into a caller-provided buffer and count only counts
+ *   them, so neither allocates.
+ * 
  * Test this implementation:
  * ./gradlew test --tests "LinearSearchTest"
  * ./gradlew test --tests "com.dsa.algorithms.searching.LinearSearchTest"
@@ -16,6 +33,36 @@ package com.dsa.algorithms.searching;
  */
 public class LinearSearch {
     
+    /** Name of the kernel class in the vector source set */
+    private static final String KERNEL_CLASS = "com.dsa.algorithms.searching.VectorSearchKernel";
+    
+    /** Arrays at or below this size are searched by the calling thread */
+    private static final int PARALLEL_SEARCH_THRESHOLD = 1 << 16;
+    
+    /** Elements a parallel task scans before checking whether an earlier match was found */
+    private static final int SEGMENT_SIZE = 1 << 13;
+    
+    /** The loaded SIMD kernel, or null when the Vector API is unavailable */
+    private static final Kernel KERNEL = loadKernel();
+    
+    /**
+     * The scans implemented with the Vector API; each works on arr[fromIndex, toIndex)
+     */
+    interface Kernel {
+        
+        /** @return the index of the first element equal to target, or -1 */
+        int indexOf(int[] arr, int fromIndex, int toIndex, int target);
+        
+        /** @return the number of elements equal to target */
+        int count(int[] arr, int fromIndex, int toIndex, int target);
+        
+        /**
+         * Writes the indexes of elements equal to target into out until the range or out runs out
+         * @return the number of indexes written
+         */
+        int findAll(int[] arr, int fromIndex, int toIndex, int target, int[] out);
+    }
+    
     /**
      * Searches for a target value in an array using linear search
      * @param arr the array to search in
@@ -32,4 +79,233 @@ public class LinearSearch {
         }
         return -1;
     }
+    
+    /**
+     * Searches for a target value, using SIMD instructions when the Vector API is available
+     * @param arr the array to search in
+     * @param target the value to search for
+     * @return index of the first occurrence of target if found, -1 if not found
+     */
+    public static int vectorizedSearch(int[] arr, int target) {
+        if (arr == null) return -1;
+        
+        return indexOf(arr, 0, arr.length, target, KERNEL);
+    }
+    
+    /**
+     * Searches arr[fromIndex, toIndex) for a target value, using SIMD instructions when available
+     * @param arr the array to search in
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @param target the value to search for
+     * @return index of the first occurrence of target in the range if found, -1 if not found
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int vectorizedSearch(int[] arr, int fromIndex, int toIndex, int target) {
+        if (arr == null) return -1;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        return indexOf(arr, fromIndex, toIndex, target, KERNEL);
+    }
+    
+    /**
+     * Returns whether the SIMD kernel was loaded, or every scan falls back to scalar code
+     * @return true if scans run on the Vector API
+     */
+    public static boolean isVectorized() {
+        return KERNEL != null;
+    }
+    
+    /**
+     * Searches for a target value on the common fork-join pool
+     * @param arr the array to search in
+     * @param target the value to search for
+     * @return index of the first occurrence of target if found, -1 if not found
+     */
+    public static int parallelSearch(int[] arr, int target) {
+        return parallelSearch(arr, target, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Searches for a target value with fork-join tasks, returning the first match
+     * @param arr the array to search in
+     * @param target the value to search for
+     * @param pool the pool that runs the search tasks
+     * @return index of the first occurrence of target if found, -1 if not found
+     * @throws IllegalArgumentException if pool is null
+     */
+    public static int parallelSearch(int[] arr, int target, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (arr == null) return -1;
+        if (arr.length <= PARALLEL_SEARCH_THRESHOLD) {
+            return indexOf(arr, 0, arr.length, target, KERNEL);
+        }
+        
+        AtomicInteger firstMatch = new AtomicInteger(Integer.MAX_VALUE);
+        pool.invoke(new SearchTask(arr, 0, arr.length, target, firstMatch, KERNEL));
+        int index = firstMatch.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+    
+    /**
+     * Counts the elements equal to a target value
+     * @param arr the array to search in
+     * @param target the value to count
+     * @return the number of occurrences of target (0 for a null array)
+     */
+    public static int count(int[] arr, int target) {
+        if (arr == null) return 0;
+        
+        return count(arr, 0, arr.length, target, KERNEL);
+    }
+    
+    /**
+     * Writes the indexes of the elements equal to a target value into a buffer
+     * @param arr the array to search in
+     * @param target the value to search for
+     * @param out receives the matching indexes in ascending order
+     * @return the number of indexes written; if it equals out.length there may be more
+     *         matches, which a call on the range after the last one written will find
+     * @throws IllegalArgumentException if out is null
+     */
+    public static int findAll(int[] arr, int target, int[] out) {
+        checkOutput(out);
+        if (arr == null) return 0;
+        
+        return findAll(arr, 0, arr.length, target, out, KERNEL);
+    }
+    
+    /**
+     * Writes the indexes of the elements of arr[fromIndex, toIndex) equal to a target value into a buffer
+     * @param arr the array to search in
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @param target the value to search for
+     * @param out receives the matching indexes (into arr) in ascending order
+     * @return the number of indexes written; if it equals out.length there may be more matches
+     * @throws IllegalArgumentException if out is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int findAll(int[] arr, int fromIndex, int toIndex, int target, int[] out) {
+        checkOutput(out);
+        if (arr == null) return 0;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        return findAll(arr, fromIndex, toIndex, target, out, KERNEL);
+    }
+    
+    /**
+     * Finds the first match in arr[fromIndex, toIndex) with the given kernel, or a scalar loop when it is null
+     */
+    static int indexOf(int[] arr, int fromIndex, int toIndex, int target, Kernel kernel) {
+        if (kernel != null) {
+            return kernel.indexOf(arr, fromIndex, toIndex, target);
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (arr[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Counts the matches in arr[fromIndex, toIndex) with the given kernel, or a scalar loop when it is null
+     */
+    static int count(int[] arr, int fromIndex, int toIndex, int target, Kernel kernel) {
+        if (kernel != null) {
+            return kernel.count(arr, fromIndex, toIndex, target);
+        }
+        int count = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (arr[i] == target) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Collects the matches in arr[fromIndex, toIndex) with the given kernel, or a scalar loop when it is null
+     */
+    static int findAll(int[] arr, int fromIndex, int toIndex, int target, int[] out, Kernel kernel) {
+        if (kernel != null) {
+            return kernel.findAll(arr, fromIndex, toIndex, target, out);
+        }
+        int written = 0;
+        for (int i = fromIndex; i < toIndex && written < out.length; i++) {
+            if (arr[i] == target) {
+                out[written++] = i;
+            }
+        }
+        return written;
+    }
+    
+    private static void checkOutput(int[] out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output array cannot be null");
+        }
+    }
+    
+    private static Kernel loadKernel() {
+        try {
+            return Class.forName(KERNEL_CLASS)
+                .asSubclass(Kernel.class)
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Kernel not compiled in, or jdk.incubator.vector not resolved at startup
+            return null;
+        }
+    }
+    
+    /**
+     * Searches a range for the first match, recording it in the shared firstMatch
+     */
+    private static final class SearchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[] arr;
+        private final int low;
+        private final int high;
+        private final int target;
+        private final AtomicInteger firstMatch;
+        private final Kernel kernel;
+        
+        SearchTask(int[] arr, int low, int high, int target, AtomicInteger firstMatch, Kernel kernel) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.target = target;
+            this.firstMatch = firstMatch;
+            this.kernel = kernel;
+        }
+        
+        @Override
+        protected void compute() {
+            if (low >= firstMatch.get()) return;
+            
+            if (high - low > PARALLEL_SEARCH_THRESHOLD) {
+                int mid = low + (high - low) / 2;
+                invokeAll(new SearchTask(arr, low, mid, target, firstMatch, kernel),
+                          new SearchTask(arr, mid, high, target, firstMatch, kernel));
+                return;
+            }
+            
+            for (int start = low; start < high; ) {
+                // A match before this segment makes the rest of the range irrelevant
+                if (start >= firstMatch.get()) return;
+                
+                int end = high - start > SEGMENT_SIZE ? start + SEGMENT_SIZE : high;
+                int index = indexOf(arr, start, end, target, kernel);
+                if (index >= 0) {
+                    firstMatch.accumulateAndGet(index, Math::min);
+                    return;
+                }
+                start = end;
+            }
+        }
+    }
 }
\ No newline at end of file
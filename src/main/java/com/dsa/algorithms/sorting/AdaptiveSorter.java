@@ -0,0 +1,195 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Adaptive Sorter Implementation (picks an algorithm per call from a sample of the input)
+ * 
+ * Time Complexity: O(1) to choose (a fixed-size sample), then that of the chosen algorithm
+ * Space Complexity: O(1) to choose, then that of the chosen algorithm
+ * 
+ * Before sorting, the sorter looks at 64 evenly spaced positions of the range and
+ * estimates four properties of the input:
+ * - length
+ * - presortedness: how many sampled neighbours, and how many consecutive samples,
+ *   are already in ascending (or descending) order
+ * - duplicate ratio: how many distinct values the sample holds
+ * - value range: the spread between the smallest and largest sampled value
+ * 
+ * It then chooses, in this order:
+ * - SMALL for 16 or fewer elements and INSERTION for up to 48
+ * - TIM when the sample is at least 95% ascending or descending, since TimSort finds
+ *   the existing runs and merges them in close to O(n)
+ * - PARALLEL_RADIX for very large ranges when more than one core is available
+ * - RADIX for large ranges; a narrow value range lowers the size at which radix wins
+ *   because RadixSort skips byte columns that never change
+ * - DUAL_PIVOT_QUICK when at most a quarter of the sampled values are distinct, since
+ *   its three-way partition removes runs of equal keys in one pass
+ * - QUICK otherwise
+ * 
+ * The thresholds are starting points; the sample only steers performance, every
+ * choice produces a correctly sorted range.
+ * 
+ * PARALLEL_RADIX runs on the sorter's own fork-join pool, so the parallelism given to
+ * the constructor caps how many threads a sort uses: the default sorter shares the
+ * common pool, a sorter built with a parallelism above 1 owns a pool of that size, and
+ * one built from a ForkJoinPool uses that pool.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "AdaptiveSorterTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.AdaptiveSorterTest"
+ * ./gradlew test --tests "*AdaptiveSorter*"
+ */
+public class AdaptiveSorter implements Sorter {
+    
+    /** Ranges at or below this size are sorted with insertion sort */
+    private static final int INSERTION_SORT_THRESHOLD = 48;
+    
+    /** Number of evenly spaced positions sampled from the range */
+    private static final int SAMPLE_SIZE = 64;
+    
+    /** Fraction of sampled pairs that must be in order for the input to count as presorted */
+    private static final double PRESORTED_RATIO = 0.95;
+    
+    /** At or below this many distinct values in the sample the input counts as duplicate-heavy */
+    private static final int FEW_DISTINCT_VALUES = SAMPLE_SIZE / 4;
+    
+    /** Sampled value spans below this count as a narrow range */
+    private static final long NARROW_RANGE = 1L << 16;
+    
+    /** Radix sort is chosen at or above this size when the value range is narrow */
+    private static final int NARROW_RADIX_THRESHOLD = 1 << 10;
+    
+    /** Radix sort is chosen at or above this size for any value range */
+    private static final int RADIX_THRESHOLD = 1 << 14;
+    
+    /** The parallel radix sort is chosen at or above this size */
+    private static final int PARALLEL_RADIX_THRESHOLD = 1 << 20;
+    
+    private final int parallelism;
+    
+    /** The pool that runs parallel sorts, or null when parallelism is 1 */
+    private final ForkJoinPool pool;
+    
+    /**
+     * Creates a sorter that may use every available processor for very large inputs,
+     * running parallel sorts on the common fork-join pool
+     */
+    public AdaptiveSorter() {
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.pool = parallelism > 1 ? ForkJoinPool.commonPool() : null;
+    }
+    
+    /**
+     * Creates a sorter for a given number of processors; 1 never chooses a parallel algorithm.
+     * A larger value gives the sorter its own pool of that many worker threads, which exit
+     * on their own once the pool has been idle for a while.
+     * @param parallelism the number of processors the sorter may use
+     * @throws IllegalArgumentException if parallelism is less than 1
+     */
+    public AdaptiveSorter(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+    
+    /**
+     * Creates a sorter that runs parallel sorts on the given pool, using its parallelism
+     * @param pool the pool for parallel sorts; the caller keeps ownership of it
+     * @throws IllegalArgumentException if pool is null
+     */
+    public AdaptiveSorter(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.parallelism = pool.getParallelism();
+        this.pool = pool;
+    }
+    
+    @Override
+    public void sort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        SortAlgorithm algorithm = choose(arr, fromIndex, toIndex);
+        if (algorithm != SortAlgorithm.PARALLEL_RADIX) {
+            algorithm.sort(arr, fromIndex, toIndex);
+        } else if (fromIndex == 0 && toIndex == arr.length) {
+            ParallelRadixSort.parallelRadixSort(arr, pool);
+        } else {
+            int[] range = Arrays.copyOfRange(arr, fromIndex, toIndex);
+            ParallelRadixSort.parallelRadixSort(range, pool);
+            System.arraycopy(range, 0, arr, fromIndex, range.length);
+        }
+    }
+    
+    /**
+     * Returns the algorithm this sorter would use for arr[fromIndex, toIndex), without sorting
+     * @param arr the array containing the range (not modified)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @return the chosen algorithm
+     * @throws IllegalArgumentException if arr is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public SortAlgorithm choose(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        int length = toIndex - fromIndex;
+        if (length <= SmallSort.MAX_NETWORK_SIZE) return SortAlgorithm.SMALL;
+        if (length <= INSERTION_SORT_THRESHOLD) return SortAlgorithm.INSERTION;
+        
+        int[] sample = new int[SAMPLE_SIZE];
+        int neighboursAscending = 0;
+        int neighboursDescending = 0;
+        for (int k = 0; k < SAMPLE_SIZE; k++) {
+            // Spread over [fromIndex, toIndex - 2] so every position has a right neighbour
+            int position = fromIndex + (int) ((long) k * (length - 1) / SAMPLE_SIZE);
+            sample[k] = arr[position];
+            if (arr[position] <= arr[position + 1]) neighboursAscending++;
+            if (arr[position] >= arr[position + 1]) neighboursDescending++;
+        }
+        
+        int samplesAscending = 0;
+        int samplesDescending = 0;
+        for (int k = 0; k < SAMPLE_SIZE - 1; k++) {
+            if (sample[k] <= sample[k + 1]) samplesAscending++;
+            if (sample[k] >= sample[k + 1]) samplesDescending++;
+        }
+        
+        if (isPresorted(neighboursAscending, samplesAscending)
+                || isPresorted(neighboursDescending, samplesDescending)) {
+            return SortAlgorithm.TIM;
+        }
+        
+        SmallSort.insertionSort(sample, 0, SAMPLE_SIZE);
+        long span = (long) sample[SAMPLE_SIZE - 1] - sample[0];
+        int distinct = 1;
+        for (int k = 1; k < SAMPLE_SIZE; k++) {
+            if (sample[k] != sample[k - 1]) distinct++;
+        }
+        
+        if (length >= PARALLEL_RADIX_THRESHOLD && parallelism > 1) {
+            return SortAlgorithm.PARALLEL_RADIX;
+        }
+        if (length >= RADIX_THRESHOLD || (length >= NARROW_RADIX_THRESHOLD && span < NARROW_RANGE)) {
+            return SortAlgorithm.RADIX;
+        }
+        if (distinct <= FEW_DISTINCT_VALUES) {
+            return SortAlgorithm.DUAL_PIVOT_QUICK;
+        }
+        return SortAlgorithm.QUICK;
+    }
+    
+    private static boolean isPresorted(int neighboursInOrder, int samplesInOrder) {
+        return neighboursInOrder >= PRESORTED_RATIO * SAMPLE_SIZE
+            && samplesInOrder >= PRESORTED_RATIO * (SAMPLE_SIZE - 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,584 @@
+package com.dsa.algorithms.sorting;
+
+/**
+ * Arg Sort Implementation (index permutations for column-wise data)
+ * 
+ * Time Complexity: O(n) for int keys (radix), O(n log n) for long keys (merge)
+ * Space Complexity: O(n) scratch
+ * 
+ * Instead of moving the keys, Arg Sort computes the permutation that would sort them:
+ * perm[i] is the row that belongs at position i. The same permutation can then be
+ * applied to any number of other columns, so a table is sorted by one key column with
+ * a single sort plus one cheap gather per column.
+ * 
+ * - the permutation is stable: rows with equal keys keep their original order
+ * - int keys are packed with their row index into one long and radix sorted, which
+ *   needs no comparisons and breaks ties by row for free
+ * - long keys are too wide to pack, so the row indices are merge sorted by key
+ * - apply and applyInPlace accept int, long, float, double, short, char and byte columns
+ * - apply gathers into a separate column; applyInPlace follows the permutation's
+ *   cycles, temporarily marking visited entries of perm with ~ so no extra
+ *   bookkeeping array is needed (perm is restored before returning)
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "ArgSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.ArgSortTest"
+ * ./gradlew test --tests "*ArgSort*"
+ */
+public class ArgSort {
+    
+    /** Index ranges at or below this size are insertion sorted by the long-key merge sort */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    
+    /**
+     * Returns the stable permutation that sorts the keys in ascending order
+     * @param keys the key column (not modified)
+     * @return a new array where element i is the row that belongs at position i
+     * @throws IllegalArgumentException if keys is null
+     */
+    public static int[] argsort(int[] keys) {
+        checkKeys(keys);
+        int[] perm = new int[keys.length];
+        argsort(keys, perm);
+        return perm;
+    }
+    
+    /**
+     * Fills perm with the stable permutation that sorts the keys in ascending order
+     * @param keys the key column (not modified)
+     * @param perm the output permutation, same length as keys
+     * @throws IllegalArgumentException if keys or perm is null or the lengths differ
+     */
+    public static void argsort(int[] keys, int[] perm) {
+        checkKeys(keys);
+        checkLength(perm, keys.length, "Permutation");
+        
+        int n = keys.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) keys[i] << 32) | i;
+        }
+        
+        RadixSort.radixSort(packed);
+        
+        for (int i = 0; i < n; i++) {
+            perm[i] = (int) packed[i];
+        }
+    }
+    
+    /**
+     * Returns the stable permutation that sorts the keys in ascending order
+     * @param keys the key column (not modified)
+     * @return a new array where element i is the row that belongs at position i
+     * @throws IllegalArgumentException if keys is null
+     */
+    public static int[] argsort(long[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null");
+        }
+        int[] perm = new int[keys.length];
+        argsort(keys, perm);
+        return perm;
+    }
+    
+    /**
+     * Fills perm with the stable permutation that sorts the keys in ascending order
+     * @param keys the key column (not modified)
+     * @param perm the output permutation, same length as keys
+     * @throws IllegalArgumentException if keys or perm is null or the lengths differ
+     */
+    public static void argsort(long[] keys, int[] perm) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null");
+        }
+        checkLength(perm, keys.length, "Permutation");
+        
+        for (int i = 0; i < perm.length; i++) {
+            perm[i] = i;
+        }
+        if (perm.length > 1) {
+            mergeSort(keys, perm, new int[perm.length], 0, perm.length - 1);
+        }
+    }
+    
+    /**
+     * Returns a new column with dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static int[] apply(int[] perm, int[] column) {
+        checkPermutation(perm);
+        int[] dest = new int[perm.length];
+        apply(perm, column, dest);
+        return dest;
+    }
+    
+    /**
+     * Gathers column through the permutation into dest: dest[i] = column[perm[i]]
+     * @param perm a permutation of 0..n-1
+     * @param column the source column (not modified)
+     * @param dest the output column, must not be the same array as column
+     * @throws IllegalArgumentException if any array is null or the lengths differ
+     */
+    public static void apply(int[] perm, int[] column, int[] dest) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        checkLength(dest, perm.length, "Destination");
+        
+        for (int i = 0; i < perm.length; i++) {
+            dest[i] = column[perm[i]];
+        }
+    }
+    
+    /**
+     * Returns a new column with dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static long[] apply(int[] perm, long[] column) {
+        checkPermutation(perm);
+        long[] dest = new long[perm.length];
+        apply(perm, column, dest);
+        return dest;
+    }
+    
+    /**
+     * Gathers column through the permutation into dest: dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if any array is null or the lengths differ
+     */
+    public static void apply(int[] perm, long[] column, long[] dest) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        checkLength(dest, perm.length, "Destination");
+        
+        for (int i = 0; i < perm.length; i++) {
+            dest[i] = column[perm[i]];
+        }
+    }
+    
+    /**
+     * Returns a new column with dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static double[] apply(int[] perm, double[] column) {
+        checkPermutation(perm);
+        double[] dest = new double[perm.length];
+        apply(perm, column, dest);
+        return dest;
+    }
+    
+    /**
+     * Gathers column through the permutation into dest: dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if any array is null or the lengths differ
+     */
+    public static void apply(int[] perm, double[] column, double[] dest) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        checkLength(dest, perm.length, "Destination");
+        
+        for (int i = 0; i < perm.length; i++) {
+            dest[i] = column[perm[i]];
+        }
+    }
+    
+    /**
+     * Returns a new column with dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static float[] apply(int[] perm, float[] column) {
+        checkPermutation(perm);
+        float[] dest = new float[perm.length];
+        apply(perm, column, dest);
+        return dest;
+    }
+    
+    /**
+     * Gathers column through the permutation into dest: dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if any array is null or the lengths differ
+     */
+    public static void apply(int[] perm, float[] column, float[] dest) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        checkLength(dest, perm.length, "Destination");
+        
+        for (int i = 0; i < perm.length; i++) {
+            dest[i] = column[perm[i]];
+        }
+    }
+    
+    /**
+     * Returns a new column with dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static short[] apply(int[] perm, short[] column) {
+        checkPermutation(perm);
+        short[] dest = new short[perm.length];
+        apply(perm, column, dest);
+        return dest;
+    }
+    
+    /**
+     * Gathers column through the permutation into dest: dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if any array is null or the lengths differ
+     */
+    public static void apply(int[] perm, short[] column, short[] dest) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        checkLength(dest, perm.length, "Destination");
+        
+        for (int i = 0; i < perm.length; i++) {
+            dest[i] = column[perm[i]];
+        }
+    }
+    
+    /**
+     * Returns a new column with dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static char[] apply(int[] perm, char[] column) {
+        checkPermutation(perm);
+        char[] dest = new char[perm.length];
+        apply(perm, column, dest);
+        return dest;
+    }
+    
+    /**
+     * Gathers column through the permutation into dest: dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if any array is null or the lengths differ
+     */
+    public static void apply(int[] perm, char[] column, char[] dest) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        checkLength(dest, perm.length, "Destination");
+        
+        for (int i = 0; i < perm.length; i++) {
+            dest[i] = column[perm[i]];
+        }
+    }
+    
+    /**
+     * Returns a new column with dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static byte[] apply(int[] perm, byte[] column) {
+        checkPermutation(perm);
+        byte[] dest = new byte[perm.length];
+        apply(perm, column, dest);
+        return dest;
+    }
+    
+    /**
+     * Gathers column through the permutation into dest: dest[i] = column[perm[i]]
+     * @throws IllegalArgumentException if any array is null or the lengths differ
+     */
+    public static void apply(int[] perm, byte[] column, byte[] dest) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        checkLength(dest, perm.length, "Destination");
+        
+        for (int i = 0; i < perm.length; i++) {
+            dest[i] = column[perm[i]];
+        }
+    }
+    
+    /**
+     * Reorders column in place so that afterwards column[i] holds what was at column[perm[i]].
+     * perm is used as scratch while the cycles are followed but is restored before returning.
+     * @param perm a permutation of 0..n-1 (must contain every index exactly once)
+     * @param column the column to reorder
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static void applyInPlace(int[] perm, int[] column) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        
+        for (int start = 0; start < perm.length; start++) {
+            if (perm[start] < 0) continue;
+            
+            int first = column[start];
+            int j = start;
+            int next = perm[j];
+            while (next != start) {
+                column[j] = column[next];
+                perm[j] = ~next;
+                j = next;
+                next = perm[j];
+            }
+            column[j] = first;
+            perm[j] = ~next;
+        }
+        restore(perm);
+    }
+    
+    /**
+     * Reorders column in place so that afterwards column[i] holds what was at column[perm[i]].
+     * perm is used as scratch while the cycles are followed but is restored before returning.
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static void applyInPlace(int[] perm, long[] column) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        
+        for (int start = 0; start < perm.length; start++) {
+            if (perm[start] < 0) continue;
+            
+            long first = column[start];
+            int j = start;
+            int next = perm[j];
+            while (next != start) {
+                column[j] = column[next];
+                perm[j] = ~next;
+                j = next;
+                next = perm[j];
+            }
+            column[j] = first;
+            perm[j] = ~next;
+        }
+        restore(perm);
+    }
+    
+    /**
+     * Reorders column in place so that afterwards column[i] holds what was at column[perm[i]].
+     * perm is used as scratch while the cycles are followed but is restored before returning.
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static void applyInPlace(int[] perm, double[] column) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        
+        for (int start = 0; start < perm.length; start++) {
+            if (perm[start] < 0) continue;
+            
+            double first = column[start];
+            int j = start;
+            int next = perm[j];
+            while (next != start) {
+                column[j] = column[next];
+                perm[j] = ~next;
+                j = next;
+                next = perm[j];
+            }
+            column[j] = first;
+            perm[j] = ~next;
+        }
+        restore(perm);
+    }
+    
+    /**
+     * Reorders column in place so that afterwards column[i] holds what was at column[perm[i]].
+     * perm is used as scratch while the cycles are followed but is restored before returning.
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static void applyInPlace(int[] perm, float[] column) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        
+        for (int start = 0; start < perm.length; start++) {
+            if (perm[start] < 0) continue;
+            
+            float first = column[start];
+            int j = start;
+            int next = perm[j];
+            while (next != start) {
+                column[j] = column[next];
+                perm[j] = ~next;
+                j = next;
+                next = perm[j];
+            }
+            column[j] = first;
+            perm[j] = ~next;
+        }
+        restore(perm);
+    }
+    
+    /**
+     * Reorders column in place so that afterwards column[i] holds what was at column[perm[i]].
+     * perm is used as scratch while the cycles are followed but is restored before returning.
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static void applyInPlace(int[] perm, short[] column) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        
+        for (int start = 0; start < perm.length; start++) {
+            if (perm[start] < 0) continue;
+            
+            short first = column[start];
+            int j = start;
+            int next = perm[j];
+            while (next != start) {
+                column[j] = column[next];
+                perm[j] = ~next;
+                j = next;
+                next = perm[j];
+            }
+            column[j] = first;
+            perm[j] = ~next;
+        }
+        restore(perm);
+    }
+    
+    /**
+     * Reorders column in place so that afterwards column[i] holds what was at column[perm[i]].
+     * perm is used as scratch while the cycles are followed but is restored before returning.
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static void applyInPlace(int[] perm, char[] column) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        
+        for (int start = 0; start < perm.length; start++) {
+            if (perm[start] < 0) continue;
+            
+            char first = column[start];
+            int j = start;
+            int next = perm[j];
+            while (next != start) {
+                column[j] = column[next];
+                perm[j] = ~next;
+                j = next;
+                next = perm[j];
+            }
+            column[j] = first;
+            perm[j] = ~next;
+        }
+        restore(perm);
+    }
+    
+    /**
+     * Reorders column in place so that afterwards column[i] holds what was at column[perm[i]].
+     * perm is used as scratch while the cycles are followed but is restored before returning.
+     * @throws IllegalArgumentException if perm or column is null or the lengths differ
+     */
+    public static void applyInPlace(int[] perm, byte[] column) {
+        checkPermutation(perm);
+        checkLength(column, perm.length, "Column");
+        
+        for (int start = 0; start < perm.length; start++) {
+            if (perm[start] < 0) continue;
+            
+            byte first = column[start];
+            int j = start;
+            int next = perm[j];
+            while (next != start) {
+                column[j] = column[next];
+                perm[j] = ~next;
+                j = next;
+                next = perm[j];
+            }
+            column[j] = first;
+            perm[j] = ~next;
+        }
+        restore(perm);
+    }
+    
+    private static void restore(int[] perm) {
+        for (int i = 0; i < perm.length; i++) {
+            perm[i] = ~perm[i];
+        }
+    }
+    
+    /**
+     * Stable merge sort of the row indices perm[low..high] by keys[row]
+     */
+    private static void mergeSort(long[] keys, int[] perm, int[] temp, int low, int high) {
+        if (high - low + 1 <= INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i <= high; i++) {
+                int row = perm[i];
+                long key = keys[row];
+                int j = i - 1;
+                while (j >= low && keys[perm[j]] > key) {
+                    perm[j + 1] = perm[j];
+                    j--;
+                }
+                perm[j + 1] = row;
+            }
+            return;
+        }
+        
+        int mid = low + (high - low) / 2;
+        mergeSort(keys, perm, temp, low, mid);
+        mergeSort(keys, perm, temp, mid + 1, high);
+        
+        // Already in order, nothing to merge
+        if (keys[perm[mid]] <= keys[perm[mid + 1]]) return;
+        
+        System.arraycopy(perm, low, temp, low, mid - low + 1);
+        int i = low;
+        int j = mid + 1;
+        int k = low;
+        while (i <= mid && j <= high) {
+            // Take from the left on ties to keep the sort stable
+            perm[k++] = keys[perm[j]] < keys[temp[i]] ? perm[j++] : temp[i++];
+        }
+        while (i <= mid) {
+            perm[k++] = temp[i++];
+        }
+    }
+    
+    private static void checkKeys(int[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null");
+        }
+    }
+    
+    private static void checkPermutation(int[] perm) {
+        if (perm == null) {
+            throw new IllegalArgumentException("Permutation cannot be null");
+        }
+    }
+    
+    private static void checkLength(int[] array, int expected, String name) {
+        if (array == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        checkLength(array.length, expected, name);
+    }
+    
+    private static void checkLength(long[] array, int expected, String name) {
+        if (array == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        checkLength(array.length, expected, name);
+    }
+    
+    private static void checkLength(double[] array, int expected, String name) {
+        if (array == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        checkLength(array.length, expected, name);
+    }
+    
+    private static void checkLength(float[] array, int expected, String name) {
+        if (array == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        checkLength(array.length, expected, name);
+    }
+    
+    private static void checkLength(short[] array, int expected, String name) {
+        if (array == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        checkLength(array.length, expected, name);
+    }
+    
+    private static void checkLength(char[] array, int expected, String name) {
+        if (array == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        checkLength(array.length, expected, name);
+    }
+    
+    private static void checkLength(byte[] array, int expected, String name) {
+        if (array == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        checkLength(array.length, expected, name);
+    }
+    
+    private static void checkLength(int length, int expected, String name) {
+        if (length != expected) {
+            throw new IllegalArgumentException(
+                name + " length " + length + " does not match " + expected);
+        }
+    }
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.dsa.algorithms.sorting;
 
+import java.util.Objects;
+
 /**
  * Bubble Sort Implementation
  * 
@@ -24,10 +26,24 @@ public class BubbleSort {
     public static void bubbleSort(int[] arr) {
         if (arr == null || arr.length <= 1) return;
         
-        int n = arr.length;
+        bubbleSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the bubble sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void bubbleSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        int n = toIndex - fromIndex;
         for (int i = 0; i < n - 1; i++) {
             boolean swapped = false;
-            for (int j = 0; j < n - i - 1; j++) {
+            for (int j = fromIndex; j < toIndex - i - 1; j++) {
                 if (arr[j] > arr[j + 1]) {
                     swap(arr, j, j + 1);
                     swapped = true;
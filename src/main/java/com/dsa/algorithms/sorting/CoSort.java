@@ -0,0 +1,281 @@
+package com.dsa.algorithms.sorting;
+
+/**
+ * Co-Sort Implementation (keys with parallel payload arrays)
+ * 
+ * Time Complexity: O(n log n) worst case
+ * Space Complexity: O(log n) for one payload, O(n) scratch for several
+ * 
+ * Co-Sort orders an int[] key array and moves the entries of one or more payload
+ * arrays along with their keys, so values[i] keeps belonging to keys[i] without boxing
+ * the pairs into objects.
+ * 
+ * - a single int[] or long[] payload is sorted with the same introsort as QuickSort
+ *   (ninther pivot, partition that splits duplicates, heapsort fallback, insertion sort
+ *   for small ranges), swapping the payload whenever a key moves; this is not stable
+ * - several payloads are handled by computing the permutation once with ArgSort and
+ *   applying it in place to the keys and every payload column; this is stable
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "CoSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.CoSortTest"
+ * ./gradlew test --tests "*CoSort*"
+ */
+public class CoSort {
+    
+    /** Ranges at or below this size are insertion sorted */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    
+    /**
+     * Sorts keys in ascending order and reorders values the same way (not stable)
+     * @param keys the keys to sort (modified in-place)
+     * @param values the payload, values[i] belongs to keys[i] (modified in-place)
+     * @throws IllegalArgumentException if the arrays are null or their lengths differ
+     */
+    public static void sort(int[] keys, int[] values) {
+        checkKeys(keys);
+        checkLength(values == null ? -1 : values.length, keys.length);
+        if (keys.length <= 1) return;
+        
+        sort(keys, values, 0, keys.length - 1, depthLimit(keys.length));
+    }
+    
+    /**
+     * Sorts keys in ascending order and reorders values the same way (not stable)
+     * @param keys the keys to sort (modified in-place)
+     * @param values the payload, values[i] belongs to keys[i] (modified in-place)
+     * @throws IllegalArgumentException if the arrays are null or their lengths differ
+     */
+    public static void sort(int[] keys, long[] values) {
+        checkKeys(keys);
+        checkLength(values == null ? -1 : values.length, keys.length);
+        if (keys.length <= 1) return;
+        
+        sort(keys, values, 0, keys.length - 1, depthLimit(keys.length));
+    }
+    
+    /**
+     * Sorts keys in ascending order and reorders every payload column the same way.
+     * Rows with equal keys keep their original order.
+     * @param keys the keys to sort (modified in-place)
+     * @param intColumns int payload columns, may be empty (each modified in-place)
+     * @param longColumns long payload columns, may be empty (each modified in-place)
+     * @throws IllegalArgumentException if any array is null or a length differs from keys
+     */
+    public static void sort(int[] keys, int[][] intColumns, long[][] longColumns) {
+        checkKeys(keys);
+        if (intColumns == null || longColumns == null) {
+            throw new IllegalArgumentException("Payload columns cannot be null");
+        }
+        for (int[] column : intColumns) {
+            checkLength(column == null ? -1 : column.length, keys.length);
+        }
+        for (long[] column : longColumns) {
+            checkLength(column == null ? -1 : column.length, keys.length);
+        }
+        if (keys.length <= 1) return;
+        
+        int[] perm = ArgSort.argsort(keys);
+        ArgSort.applyInPlace(perm, keys);
+        for (int[] column : intColumns) {
+            ArgSort.applyInPlace(perm, column);
+        }
+        for (long[] column : longColumns) {
+            ArgSort.applyInPlace(perm, column);
+        }
+    }
+    
+    private static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+    
+    private static void sort(int[] keys, int[] values, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(keys, values, low, high);
+                return;
+            }
+            depthLimit--;
+            
+            swap(keys, values, QuickSort.choosePivot(keys, low, high), high);
+            int partitionIndex = partition(keys, values, low, high);
+            
+            // Recurse into the smaller side, loop on the larger one
+            if (partitionIndex - low < high - partitionIndex) {
+                sort(keys, values, low, partitionIndex - 1, depthLimit);
+                low = partitionIndex + 1;
+            } else {
+                sort(keys, values, partitionIndex + 1, high, depthLimit);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        for (int i = low + 1; i <= high; i++) {
+            int key = keys[i];
+            int value = values[i];
+            int j = i - 1;
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+    
+    private static int partition(int[] keys, int[] values, int low, int high) {
+        int pivot = keys[high];
+        int i = low - 1;
+        int j = high;
+        
+        while (true) {
+            while (keys[++i] < pivot) {
+                // keys[high] == pivot stops this scan
+            }
+            while (pivot < keys[--j]) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(keys, values, i, j);
+        }
+        
+        swap(keys, values, i, high);
+        return i;
+    }
+    
+    private static void heapSort(int[] keys, int[] values, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(keys, values, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(keys, values, low, low + end);
+            siftDown(keys, values, low, 0, end);
+        }
+    }
+    
+    private static void siftDown(int[] keys, int[] values, int offset, int index, int size) {
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && keys[offset + child + 1] > keys[offset + child]) {
+                child++;
+            }
+            if (keys[offset + index] >= keys[offset + child]) break;
+            swap(keys, values, offset + index, offset + child);
+            index = child;
+        }
+    }
+    
+    private static void swap(int[] keys, int[] values, int i, int j) {
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+    
+    private static void sort(int[] keys, long[] values, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(keys, values, low, high);
+                return;
+            }
+            depthLimit--;
+            
+            swap(keys, values, QuickSort.choosePivot(keys, low, high), high);
+            int partitionIndex = partition(keys, values, low, high);
+            
+            // Recurse into the smaller side, loop on the larger one
+            if (partitionIndex - low < high - partitionIndex) {
+                sort(keys, values, low, partitionIndex - 1, depthLimit);
+                low = partitionIndex + 1;
+            } else {
+                sort(keys, values, partitionIndex + 1, high, depthLimit);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        for (int i = low + 1; i <= high; i++) {
+            int key = keys[i];
+            long value = values[i];
+            int j = i - 1;
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+    
+    private static int partition(int[] keys, long[] values, int low, int high) {
+        int pivot = keys[high];
+        int i = low - 1;
+        int j = high;
+        
+        while (true) {
+            while (keys[++i] < pivot) {
+                // keys[high] == pivot stops this scan
+            }
+            while (pivot < keys[--j]) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(keys, values, i, j);
+        }
+        
+        swap(keys, values, i, high);
+        return i;
+    }
+    
+    private static void heapSort(int[] keys, long[] values, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(keys, values, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(keys, values, low, low + end);
+            siftDown(keys, values, low, 0, end);
+        }
+    }
+    
+    private static void siftDown(int[] keys, long[] values, int offset, int index, int size) {
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && keys[offset + child + 1] > keys[offset + child]) {
+                child++;
+            }
+            if (keys[offset + index] >= keys[offset + child]) break;
+            swap(keys, values, offset + index, offset + child);
+            index = child;
+        }
+    }
+    
+    private static void swap(int[] keys, long[] values, int i, int j) {
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        long value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+    
+    private static void checkKeys(int[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null");
+        }
+    }
+    
+    private static void checkLength(int length, int expected) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Payload cannot be null");
+        }
+        if (length != expected) {
+            throw new IllegalArgumentException(
+                "Payload length " + length + " does not match keys length " + expected);
+        }
+    }
+}
\ No newline at end of file
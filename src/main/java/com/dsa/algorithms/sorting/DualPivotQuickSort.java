@@ -0,0 +1,200 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Objects;
+
+/**
+ * Dual-Pivot Quick Sort Implementation
+ * 
+ * Time Complexity: O(n log n) average and worst case, close to O(n) when there are few distinct keys
+ * Space Complexity: O(log n) recursion stack
+ * 
+ * Dual-Pivot Quick Sort picks two pivots p1 <= p2 from a sample of five elements and
+ * splits the range into three parts in a single pass: elements < p1, elements between
+ * p1 and p2, and elements > p2.
+ * 
+ * Duplicate keys are grouped instead of being re-sorted:
+ * - if the sample shows p1 == p2, the range is split Dutch-national-flag style into
+ *   < pivot, == pivot and > pivot, and the equal block is never touched again
+ * - if the middle part is large, elements equal to p1 or p2 are squeezed to its ends
+ *   before it is recursed into
+ * 
+ * Like QuickSort, it recurses only into the smaller parts and loops on the largest, so
+ * the stack stays O(log n) deep, and after 2 * log2(n) levels of partitioning a range is
+ * finished with QuickSort's heap sort, so pathological input cannot go quadratic.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "DualPivotQuickSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.DualPivotQuickSortTest"
+ * ./gradlew test --tests "*DualPivotQuickSort*"
+ */
+public class DualPivotQuickSort {
+    
+    /** Ranges at or below this size are sorted with a SmallSort kernel */
+    private static final int SMALL_SORT_THRESHOLD = 27;
+    
+    /**
+     * Sorts an array using dual-pivot quick sort with three-way handling of duplicates
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void dualPivotQuickSort(int[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        sort(arr, 0, arr.length - 1, depthLimit(arr.length));
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using dual-pivot quick sort
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void dualPivotQuickSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        sort(arr, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex));
+    }
+    
+    /**
+     * Sorts arr[low..high], switching to heap sort once depthLimit partitions deep
+     */
+    static void sort(int[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > SMALL_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                QuickSort.heapSort(arr, low, high);
+                return;
+            }
+            depthLimit--;
+            
+            // Five evenly spaced samples, sorted in place
+            int length = high - low + 1;
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = low + (high - low) / 2;
+            int e2 = e3 - seventh;
+            int e1 = e2 - seventh;
+            int e4 = e3 + seventh;
+            int e5 = e4 + seventh;
+            sortSamples(arr, e1, e2, e3, e4, e5);
+            
+            if (arr[e2] == arr[e4]) {
+                // Split into < pivot, == pivot and > pivot; the equal block is done
+                int pivot = arr[e3];
+                int lt = low;
+                int gt = high;
+                int i = low;
+                while (i <= gt) {
+                    if (arr[i] < pivot) {
+                        swap(arr, lt++, i++);
+                    } else if (arr[i] > pivot) {
+                        swap(arr, i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+                
+                // Recurse into the smaller side, loop on the larger one
+                if (lt - low < high - gt) {
+                    sort(arr, low, lt - 1, depthLimit);
+                    low = gt + 1;
+                } else {
+                    sort(arr, gt + 1, high, depthLimit);
+                    high = lt - 1;
+                }
+                continue;
+            }
+            
+            // Partition around the pivots at e2 and e4 (arr[e2] < arr[e4])
+            swap(arr, e2, low);
+            swap(arr, e4, high);
+            int pivot1 = arr[low];
+            int pivot2 = arr[high];
+            
+            int less = low + 1;
+            int great = high - 1;
+            int k = less;
+            while (k <= great) {
+                int value = arr[k];
+                if (value < pivot1) {
+                    swap(arr, k++, less++);
+                } else if (value > pivot2) {
+                    swap(arr, k, great--);
+                } else {
+                    k++;
+                }
+            }
+            
+            swap(arr, low, --less);
+            swap(arr, high, ++great);
+            
+            // The middle part holds pivot1 <= x <= pivot2. When it is large it usually
+            // contains many copies of the pivots, so move those to the ends first.
+            int middleLow = less + 1;
+            int middleHigh = great - 1;
+            if (middleHigh - middleLow + 1 > length / 2) {
+                k = middleLow;
+                while (k <= middleHigh) {
+                    int value = arr[k];
+                    if (value == pivot1) {
+                        swap(arr, k++, middleLow++);
+                    } else if (value == pivot2) {
+                        swap(arr, k, middleHigh--);
+                    } else {
+                        k++;
+                    }
+                }
+            }
+            
+            // Recurse into the two smaller parts, each at most half the range, and loop
+            // on the largest, so the stack stays O(log n) deep
+            int leftSize = less - low;
+            int middleSize = middleHigh - middleLow + 1;
+            int rightSize = high - great;
+            if (leftSize >= middleSize && leftSize >= rightSize) {
+                sort(arr, middleLow, middleHigh, depthLimit);
+                sort(arr, great + 1, high, depthLimit);
+                high = less - 1;
+            } else if (rightSize >= middleSize) {
+                sort(arr, low, less - 1, depthLimit);
+                sort(arr, middleLow, middleHigh, depthLimit);
+                low = great + 1;
+            } else {
+                sort(arr, low, less - 1, depthLimit);
+                sort(arr, great + 1, high, depthLimit);
+                low = middleLow;
+                high = middleHigh;
+            }
+        }
+        
+        SmallSort.sort(arr, low, high + 1);
+    }
+    
+    private static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+    
+    /** Sorts the five sample elements with a 9-comparator sorting network */
+    private static void sortSamples(int[] arr, int e1, int e2, int e3, int e4, int e5) {
+        compareSwap(arr, e1, e2);
+        compareSwap(arr, e4, e5);
+        compareSwap(arr, e3, e5);
+        compareSwap(arr, e3, e4);
+        compareSwap(arr, e1, e4);
+        compareSwap(arr, e1, e3);
+        compareSwap(arr, e2, e5);
+        compareSwap(arr, e2, e4);
+        compareSwap(arr, e2, e3);
+    }
+    
+    private static void compareSwap(int[] arr, int i, int j) {
+        if (arr[i] > arr[j]) {
+            swap(arr, i, j);
+        }
+    }
+    
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
\ No newline at end of file
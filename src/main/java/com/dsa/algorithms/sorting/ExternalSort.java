@@ -0,0 +1,299 @@
+package com.dsa.algorithms.sorting;
+
+import com.dsa.datastructures.MinHeap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * External Merge Sort for files of 32-bit ints larger than memory
+ * 
+ * Time Complexity: O(n log n) comparisons; O(n * (1 + passes)) file I/O, where
+ *   passes = ceil(log_k(runs)) and k is the merge fan-in
+ * Space Complexity: the configured memory budget, plus temp files as large as the input
+ * 
+ * External Merge Sort works in two phases:
+ * 1. Run generation: read as many ints as fit in the memory budget after the read and
+ *    write buffers, sort them with QuickSort, and write them to a temporary run file.
+ *    Repeat until the input is consumed.
+ * 2. Merging: open up to k runs at once, each behind its own read buffer, and repeatedly
+ *    take the smallest head element from a MinHeap of run readers. If there are more
+ *    than k runs, groups of k are merged into longer runs until k or fewer remain.
+ * 
+ * All I/O goes through FileChannels and fixed-size ByteBuffers. Files hold big-endian
+ * ints, as written by DataOutputStream. Temporary run files are deleted when the sort
+ * finishes, whether or not it succeeds.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "ExternalSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.ExternalSortTest"
+ * ./gradlew test --tests "*ExternalSort*"
+ */
+public class ExternalSort {
+    
+    /** Default memory budget: 64 MiB */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+    
+    /** Default size of each run file read/write buffer: 64 KiB */
+    public static final int DEFAULT_BUFFER_SIZE = 64 << 10;
+    
+    private final int chunkSize;
+    private final int bufferSize;
+    private final int maxFanIn;
+    private final Path tempDirectory;
+    
+    /**
+     * Creates an external sorter with the default memory budget and buffer size,
+     * writing run files to the system temp directory
+     */
+    public ExternalSort() {
+        this(DEFAULT_MEMORY_BUDGET, DEFAULT_BUFFER_SIZE, null);
+    }
+    
+    /**
+     * Creates an external sorter
+     * @param memoryBudget bytes of heap the sort may use: a chunk plus its read and write
+     *        buffers while creating runs, or the merge buffers while merging
+     * @param bufferSize bytes of buffering for each run file; rounded down to a multiple of 4
+     * @param tempDirectory where run files are written, or null for the system temp directory
+     * @throws IllegalArgumentException if bufferSize is below 4 bytes, or the budget cannot
+     *         hold at least three buffers (two inputs and one output)
+     */
+    public ExternalSort(long memoryBudget, int bufferSize, Path tempDirectory) {
+        if (bufferSize < Integer.BYTES) {
+            throw new IllegalArgumentException("Buffer size must be at least " + Integer.BYTES + " bytes");
+        }
+        this.bufferSize = bufferSize - bufferSize % Integer.BYTES;
+        if (memoryBudget < 3L * this.bufferSize) {
+            throw new IllegalArgumentException("Memory budget must hold at least three buffers");
+        }
+        
+        // Run generation holds the chunk plus one read buffer and one RunWriter buffer
+        this.chunkSize = (int) Math.min((memoryBudget - 2L * this.bufferSize) / Integer.BYTES, Integer.MAX_VALUE - 8);
+        this.maxFanIn = (int) Math.min(memoryBudget / this.bufferSize - 1, 1 << 16);
+        this.tempDirectory = tempDirectory;
+    }
+    
+    /**
+     * @return the number of ints sorted in memory per run
+     */
+    int chunkSize() {
+        return chunkSize;
+    }
+    
+    /**
+     * Sorts the ints in input and writes them to output. input and output may be the same file.
+     * @param input file of big-endian 32-bit ints
+     * @param output file to create or overwrite with the sorted ints
+     * @throws IOException if reading, writing or creating temp files fails
+     * @throws IllegalArgumentException if the input size is not a multiple of 4 bytes
+     */
+    public void sort(Path input, Path output) throws IOException {
+        List<Path> tempFiles = new ArrayList<>();
+        try {
+            List<Path> runs = createRuns(input, tempFiles);
+            
+            while (runs.size() > maxFanIn) {
+                List<Path> merged = new ArrayList<>();
+                for (int start = 0; start < runs.size(); start += maxFanIn) {
+                    List<Path> group = runs.subList(start, Math.min(start + maxFanIn, runs.size()));
+                    Path run = createTempRun(tempFiles);
+                    merge(group, run);
+                    merged.add(run);
+                    deleteAll(group);
+                }
+                runs = merged;
+            }
+            
+            merge(runs, output);
+        } finally {
+            deleteAll(tempFiles);
+        }
+    }
+    
+    /**
+     * Phase 1: splits input into memory-sized chunks, sorts each, and writes each to a run file
+     */
+    private List<Path> createRuns(Path input, List<Path> tempFiles) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("Input size " + size + " is not a multiple of 4 bytes");
+            }
+            
+            long remaining = size / Integer.BYTES;
+            int[] chunk = new int[(int) Math.min(chunkSize, remaining)];
+            ByteBuffer buffer = ByteBuffer.allocate(bufferSize).order(ByteOrder.BIG_ENDIAN);
+            
+            while (remaining > 0) {
+                int count = (int) Math.min(chunk.length, remaining);
+                readInts(channel, buffer, chunk, count);
+                remaining -= count;
+                
+                QuickSort.quickSort(chunk, 0, count);
+                
+                Path run = createTempRun(tempFiles);
+                runs.add(run);
+                try (RunWriter writer = new RunWriter(run, bufferSize)) {
+                    for (int i = 0; i < count; i++) {
+                        writer.write(chunk[i]);
+                    }
+                }
+            }
+        }
+        return runs;
+    }
+    
+    private static void readInts(FileChannel channel, ByteBuffer buffer, int[] dest, int count)
+            throws IOException {
+        int filled = 0;
+        buffer.clear();
+        while (filled < count) {
+            int want = Math.min(buffer.capacity(), (count - filled) * Integer.BYTES);
+            buffer.limit(want);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Input ended early");
+                }
+            }
+            buffer.flip();
+            int ints = want / Integer.BYTES;
+            buffer.asIntBuffer().get(dest, filled, ints);
+            filled += ints;
+            buffer.clear();
+        }
+    }
+    
+    /**
+     * Phase 2: k-way merge of the given sorted runs into output, driven by a MinHeap
+     */
+    private void merge(List<Path> runs, Path output) throws IOException {
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        try (RunWriter writer = new RunWriter(output, bufferSize)) {
+            MinHeap<RunReader> heap = new MinHeap<>();
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run, bufferSize);
+                readers.add(reader);
+                if (reader.advance()) {
+                    heap.insert(reader);
+                }
+            }
+            
+            while (!heap.isEmpty()) {
+                RunReader smallest = heap.extractMin();
+                writer.write(smallest.current);
+                if (smallest.advance()) {
+                    heap.insert(smallest);
+                }
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+    
+    private Path createTempRun(List<Path> tempFiles) throws IOException {
+        Path run = tempDirectory == null
+            ? Files.createTempFile("external-sort-", ".run")
+            : Files.createTempFile(tempDirectory, "external-sort-", ".run");
+        tempFiles.add(run);
+        return run;
+    }
+    
+    private static void deleteAll(List<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Buffered sequential reader over a run file, ordered by its current element
+     */
+    private static final class RunReader implements Comparable<RunReader>, AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private int current;
+        
+        RunReader(Path run, int bufferSize) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocate(bufferSize).order(ByteOrder.BIG_ENDIAN);
+            this.buffer.flip(); // start empty
+        }
+        
+        /**
+         * Moves to the next element
+         * @return false if the run is exhausted
+         */
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                buffer.compact();
+                while (buffer.position() < Integer.BYTES) {
+                    if (channel.read(buffer) < 0) {
+                        buffer.flip();
+                        return false;
+                    }
+                }
+                buffer.flip();
+            }
+            current = buffer.getInt();
+            return true;
+        }
+        
+        @Override
+        public int compareTo(RunReader other) {
+            return Integer.compare(current, other.current);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+    
+    /**
+     * Buffered sequential writer of ints to a file, truncating any existing content
+     */
+    private static final class RunWriter implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        
+        RunWriter(Path file, int bufferSize) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocate(bufferSize).order(ByteOrder.BIG_ENDIAN);
+        }
+        
+        void write(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+        
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,317 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+/**
+ * In-Place Merge Sort Implementation (stable, SymMerge with rotations)
+ * 
+ * Time Complexity: O(n log² n) in all cases
+ * Space Complexity: O(log n) for the merge recursion, no scratch buffer
+ * 
+ * MergeSort is stable but needs an O(n) buffer. This variant keeps stability without
+ * one, for callers that sort large arrays under a tight memory budget:
+ * - the array is cut into blocks of 20 elements, each sorted with insertion sort
+ * - neighbouring blocks are merged bottom-up, doubling the block size each round
+ * - each merge is Kim and Kutzner's SymMerge: it binary searches a split point that
+ *   is symmetric around the middle of the two runs, rotates the middle section into
+ *   place, and recursively merges the two halves that result
+ * - a rotation is done with three reversals, so it needs no extra space either
+ * 
+ * Every step moves an element past another only if it is strictly smaller, so elements
+ * that compare equal keep their original relative order.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "InPlaceMergeSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.InPlaceMergeSortTest"
+ * ./gradlew test --tests "*InPlaceMergeSort*"
+ */
+public class InPlaceMergeSort {
+    
+    /** Blocks of this size are insertion sorted before the merge rounds */
+    private static final int BLOCK_SIZE = 20;
+    
+    /**
+     * Sorts an array using a stable merge sort without a scratch buffer
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void inPlaceMergeSort(int[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        inPlaceMergeSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using a stable merge sort without a scratch buffer
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void inPlaceMergeSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        for (int start = fromIndex; start < toIndex; start += BLOCK_SIZE) {
+            InsertionSort.insertionSort(arr, start, Math.min(start + BLOCK_SIZE, toIndex));
+        }
+        
+        // long so the doubling cannot overflow on arrays longer than 2^30
+        for (long width = BLOCK_SIZE; width < toIndex - fromIndex; width *= 2) {
+            for (long low = fromIndex; low < toIndex - width; low += 2 * width) {
+                int mid = (int) (low + width);
+                int high = (int) Math.min(mid + width, toIndex);
+                symMerge(arr, (int) low, mid, high);
+            }
+        }
+    }
+    
+    /**
+     * Sorts an object array using a stable merge sort without a scratch buffer
+     * @param arr the array to be sorted (modified in-place)
+     * @param comparator the ordering to sort by
+     * @throws IllegalArgumentException if comparator is null
+     */
+    public static <T> void inPlaceMergeSort(T[] arr, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (arr == null || arr.length <= 1) return;
+        
+        int n = arr.length;
+        for (int start = 0; start < n; start += BLOCK_SIZE) {
+            insertionSort(arr, start, Math.min(start + BLOCK_SIZE, n), comparator);
+        }
+        
+        for (long width = BLOCK_SIZE; width < n; width *= 2) {
+            for (long low = 0; low < n - width; low += 2 * width) {
+                int mid = (int) (low + width);
+                int high = (int) Math.min(mid + width, n);
+                symMerge(arr, (int) low, mid, high, comparator);
+            }
+        }
+    }
+    
+    /**
+     * Sorts a list using a stable merge sort. The elements are copied into an array once,
+     * sorted there without a further buffer, and written back in a single pass.
+     * @param list the list to be sorted (modified in-place, must support set)
+     * @param comparator the ordering to sort by
+     * @throws IllegalArgumentException if comparator is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void inPlaceMergeSort(List<T> list, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (list == null || list.size() <= 1) return;
+        
+        T[] arr = (T[]) list.toArray();
+        inPlaceMergeSort(arr, comparator);
+        
+        ListIterator<T> iterator = list.listIterator();
+        for (T element : arr) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+    
+    /**
+     * Merges the sorted runs arr[low, mid) and arr[mid, high) in place
+     */
+    private static void symMerge(int[] arr, int low, int mid, int high) {
+        if (mid - low == 1) {
+            // A single left element: shift it past every right element strictly smaller than it
+            int value = arr[low];
+            int insert = lowerBound(arr, mid, high, value);
+            System.arraycopy(arr, mid, arr, low, insert - mid);
+            arr[insert - 1] = value;
+            return;
+        }
+        if (high - mid == 1) {
+            // A single right element: shift it before every left element strictly greater than it
+            int value = arr[mid];
+            int insert = upperBound(arr, low, mid, value);
+            System.arraycopy(arr, insert, arr, insert + 1, mid - insert);
+            arr[insert] = value;
+            return;
+        }
+        
+        int half = (low + high) >>> 1;
+        int n = half + mid;
+        int start;
+        int r;
+        if (mid > half) {
+            start = n - high;
+            r = half;
+        } else {
+            start = low;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int c = (start + r) >>> 1;
+            if (arr[p - c] >= arr[c]) {
+                start = c + 1;
+            } else {
+                r = c;
+            }
+        }
+        int end = n - start;
+        
+        if (start < mid && mid < end) {
+            rotate(arr, start, mid, end);
+        }
+        if (low < start && start < half) {
+            symMerge(arr, low, start, half);
+        }
+        if (half < end && end < high) {
+            symMerge(arr, half, end, high);
+        }
+    }
+    
+    /** First index in arr[low, high) whose value is >= key */
+    private static int lowerBound(int[] arr, int low, int high, int key) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    /** First index in arr[low, high) whose value is > key */
+    private static int upperBound(int[] arr, int low, int high, int key) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * Turns arr[low, mid) arr[mid, high) into arr[mid, high) arr[low, mid) by three reversals
+     */
+    private static void rotate(int[] arr, int low, int mid, int high) {
+        reverse(arr, low, mid - 1);
+        reverse(arr, mid, high - 1);
+        reverse(arr, low, high - 1);
+    }
+    
+    private static void reverse(int[] arr, int i, int j) {
+        while (i < j) {
+            int temp = arr[i];
+            arr[i++] = arr[j];
+            arr[j--] = temp;
+        }
+    }
+    
+    private static <T> void insertionSort(T[] arr, int low, int high, Comparator<? super T> c) {
+        for (int i = low + 1; i < high; i++) {
+            T key = arr[i];
+            int j = i - 1;
+            
+            while (j >= low && c.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    private static <T> void symMerge(T[] arr, int low, int mid, int high, Comparator<? super T> c) {
+        if (mid - low == 1) {
+            T value = arr[low];
+            int insert = lowerBound(arr, mid, high, value, c);
+            System.arraycopy(arr, mid, arr, low, insert - mid);
+            arr[insert - 1] = value;
+            return;
+        }
+        if (high - mid == 1) {
+            T value = arr[mid];
+            int insert = upperBound(arr, low, mid, value, c);
+            System.arraycopy(arr, insert, arr, insert + 1, mid - insert);
+            arr[insert] = value;
+            return;
+        }
+        
+        int half = (low + high) >>> 1;
+        int n = half + mid;
+        int start;
+        int r;
+        if (mid > half) {
+            start = n - high;
+            r = half;
+        } else {
+            start = low;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int m = (start + r) >>> 1;
+            if (c.compare(arr[p - m], arr[m]) >= 0) {
+                start = m + 1;
+            } else {
+                r = m;
+            }
+        }
+        int end = n - start;
+        
+        if (start < mid && mid < end) {
+            rotate(arr, start, mid, end);
+        }
+        if (low < start && start < half) {
+            symMerge(arr, low, start, half, c);
+        }
+        if (half < end && end < high) {
+            symMerge(arr, half, end, high, c);
+        }
+    }
+    
+    private static <T> int lowerBound(T[] arr, int low, int high, T key, Comparator<? super T> c) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (c.compare(arr[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private static <T> int upperBound(T[] arr, int low, int high, T key, Comparator<? super T> c) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (c.compare(arr[mid], key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private static <T> void rotate(T[] arr, int low, int mid, int high) {
+        reverse(arr, low, mid - 1);
+        reverse(arr, mid, high - 1);
+        reverse(arr, low, high - 1);
+    }
+    
+    private static <T> void reverse(T[] arr, int i, int j) {
+        while (i < j) {
+            T temp = arr[i];
+            arr[i++] = arr[j];
+            arr[j--] = temp;
+        }
+    }
+}
\ No newline at end of file
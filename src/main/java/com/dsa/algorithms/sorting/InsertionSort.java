@@ -1,5 +1,7 @@
 package com.dsa.algorithms.sorting;
 
+import java.util.Objects;
+
 /**
  * Insertion Sort Implementation
  * 
@@ -9,6 +11,14 @@ package com.dsa.algorithms.sorting;
  * Insertion Sort builds the sorted array one element at a time. It takes elements
  * from the unsorted portion and inserts them into their correct position in the sorted portion.
  * 
+ * The long, short, char, float and double overloads sort those primitives directly.
+ * float and double use the total order of Float.compare / Double.compare, so -0.0 sorts
+ * before 0.0 and NaN sorts last.
+ * 
+ * Binary Insertion Sort finds each insertion position with a binary search, cutting the
+ * comparisons to O(n log n) while the element moves stay O(n²). See SmallSort for the
+ * kernels the larger sorts use on tiny ranges.
+ * 
  * Test this implementation:
  * ./gradlew test --tests "InsertionSortTest"
  * ./gradlew test --tests "com.dsa.algorithms.sorting.InsertionSortTest"
@@ -23,15 +33,220 @@ public class InsertionSort {
     public static void insertionSort(int[] arr) {
         if (arr == null || arr.length <= 1) return;
         
-        for (int i = 1; i < arr.length; i++) {
+        insertionSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the insertion sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void insertionSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        for (int i = fromIndex + 1; i < toIndex; i++) {
             int key = arr[i];
             int j = i - 1;
             
-            while (j >= 0 && arr[j] > key) {
+            while (j >= fromIndex && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    /**
+     * Sorts an array using the insertion sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void insertionSort(long[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        insertionSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the insertion sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void insertionSort(long[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            
+            while (j >= fromIndex && key < arr[j]) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    /**
+     * Sorts an array using the insertion sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void insertionSort(short[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        insertionSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the insertion sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void insertionSort(short[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            short key = arr[i];
+            int j = i - 1;
+            
+            while (j >= fromIndex && key < arr[j]) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    /**
+     * Sorts an array using the insertion sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void insertionSort(char[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        insertionSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the insertion sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void insertionSort(char[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            char key = arr[i];
+            int j = i - 1;
+            
+            while (j >= fromIndex && key < arr[j]) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    /**
+     * Sorts an array using the insertion sort algorithm
+     * Ordered by Float.compare: -0.0f sorts before 0.0f and NaN sorts last.
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void insertionSort(float[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        insertionSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the insertion sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void insertionSort(float[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            float key = arr[i];
+            int j = i - 1;
+            
+            while (j >= fromIndex && Float.compare(key, arr[j]) < 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    /**
+     * Sorts an array using the insertion sort algorithm
+     * Ordered by Double.compare: -0.0 sorts before 0.0 and NaN sorts last.
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void insertionSort(double[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        insertionSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the insertion sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void insertionSort(double[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            double key = arr[i];
+            int j = i - 1;
+            
+            while (j >= fromIndex && Double.compare(key, arr[j]) < 0) {
                 arr[j + 1] = arr[j];
                 j--;
             }
             arr[j + 1] = key;
         }
     }
+    
+    /**
+     * Sorts an array using binary insertion sort
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void binaryInsertionSort(int[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        binaryInsertionSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using binary insertion sort
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void binaryInsertionSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        SmallSort.binaryInsertionSort(arr, fromIndex, toIndex);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,256 @@
+package com.dsa.algorithms.sorting;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Off-Heap Sort for memory-mapped int files
+ * 
+ * Time Complexity: O(n log n) average and worst case (introsort)
+ * Space Complexity: O(log n) stack plus a fixed 16 KB on-heap scratch array
+ * 
+ * Sorts 32-bit keys in place where they live: in an IntBuffer (direct or mapped), or in a
+ * binary file that is memory-mapped in 1 GiB segments, so files larger than the heap and
+ * larger than a single 2 GiB mapping can be sorted without loading them.
+ * 
+ * The algorithm is the same introsort as QuickSort, but works on long indices so it
+ * can span several mapped segments. Once a partition is small enough it is copied into
+ * a small reusable int[] and finished there with QuickSort, which is much faster than
+ * sorting through buffer accessors and keeps heap use constant.
+ * 
+ * The operating system pages the file in and out as the sort touches it; the mapped
+ * segments are flushed to disk before sortFile returns.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "MappedFileSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.MappedFileSortTest"
+ * ./gradlew test --tests "*MappedFileSort*"
+ */
+public class MappedFileSort {
+    
+    /** Each mapped segment holds 2^28 ints (1 GiB) */
+    private static final int SEGMENT_SHIFT = 28;
+    
+    /** Partitions at or below this size are finished on the heap */
+    private static final int LEAF_SIZE = 1 << 12;
+    
+    /** Ranges above this size use the ninther instead of a plain median of three */
+    private static final int NINTHER_THRESHOLD = 128;
+    
+    private final IntBuffer[] segments;
+    private final int shift;
+    private final long mask;
+    private final int[] scratch = new int[LEAF_SIZE];
+    
+    private MappedFileSort(IntBuffer[] segments, int shift) {
+        this.segments = segments;
+        this.shift = shift;
+        this.mask = (1L << shift) - 1;
+    }
+    
+    /**
+     * Sorts the remaining elements of an IntBuffer, from its position to its limit,
+     * in place. The buffer's position and limit are not changed.
+     * @param buffer the buffer to be sorted (modified in-place)
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static void sort(IntBuffer buffer) {
+        if (buffer == null || buffer.remaining() <= 1) return;
+        
+        // Integer.SIZE - 1 bits of offset: every index falls into the single segment
+        IntBuffer view = buffer.slice();
+        new MappedFileSort(new IntBuffer[]{view}, Integer.SIZE - 1).sort(0, view.limit() - 1L);
+    }
+    
+    /**
+     * Sorts a binary file of big-endian 32-bit ints in place
+     * @param path the file to sort
+     * @throws IOException if the file cannot be mapped for reading and writing
+     * @throws IllegalArgumentException if the file size is not a multiple of 4 bytes
+     */
+    public static void sortFile(Path path) throws IOException {
+        sortFile(path, ByteOrder.BIG_ENDIAN);
+    }
+    
+    /**
+     * Sorts a binary file of 32-bit ints in place
+     * @param path the file to sort
+     * @param order the byte order the ints are stored in
+     * @throws IOException if the file cannot be mapped for reading and writing
+     * @throws IllegalArgumentException if the file size is not a multiple of 4 bytes
+     */
+    public static void sortFile(Path path, ByteOrder order) throws IOException {
+        sortFile(path, order, SEGMENT_SHIFT);
+    }
+    
+    /**
+     * Sorts a file mapped in segments of 2^segmentShift ints; tests use small segments
+     * to exercise sorting across segment boundaries
+     */
+    static void sortFile(Path path, ByteOrder order, int segmentShift) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("File size " + size + " is not a multiple of 4 bytes");
+            }
+            
+            long count = size / Integer.BYTES;
+            if (count <= 1) return;
+            
+            long segmentBytes = (long) Integer.BYTES << segmentShift;
+            int segmentCount = (int) ((size + segmentBytes - 1) / segmentBytes);
+            MappedByteBuffer[] mapped = new MappedByteBuffer[segmentCount];
+            IntBuffer[] segments = new IntBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                long start = s * segmentBytes;
+                mapped[s] = channel.map(FileChannel.MapMode.READ_WRITE, start,
+                    Math.min(segmentBytes, size - start));
+                segments[s] = mapped[s].order(order).asIntBuffer();
+            }
+            
+            new MappedFileSort(segments, segmentShift).sort(0, count - 1);
+            
+            for (MappedByteBuffer segment : mapped) {
+                segment.force();
+            }
+        }
+    }
+    
+    private int get(long index) {
+        return segments[(int) (index >>> shift)].get((int) (index & mask));
+    }
+    
+    private void set(long index, int value) {
+        segments[(int) (index >>> shift)].put((int) (index & mask), value);
+    }
+    
+    private void swap(long i, long j) {
+        int temp = get(i);
+        set(i, get(j));
+        set(j, temp);
+    }
+    
+    private void sort(long low, long high) {
+        int depthLimit = 2 * (63 - Long.numberOfLeadingZeros(high - low + 1));
+        sortHelper(low, high, depthLimit);
+    }
+    
+    private void sortHelper(long low, long high, int depthLimit) {
+        while (high - low + 1 > LEAF_SIZE) {
+            if (depthLimit == 0) {
+                heapSort(low, high);
+                return;
+            }
+            depthLimit--;
+            
+            swap(choosePivot(low, high), high);
+            long partitionIndex = partition(low, high);
+            
+            // Recurse into the smaller side, loop on the larger one
+            if (partitionIndex - low < high - partitionIndex) {
+                sortHelper(low, partitionIndex - 1, depthLimit);
+                low = partitionIndex + 1;
+            } else {
+                sortHelper(partitionIndex + 1, high, depthLimit);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        sortLeaf(low, high);
+    }
+    
+    /**
+     * Copies a small range onto the heap, sorts it there and writes it back
+     */
+    private void sortLeaf(long low, long high) {
+        int length = (int) (high - low + 1);
+        if (length <= 1) return;
+        
+        for (int i = 0; i < length; i++) {
+            scratch[i] = get(low + i);
+        }
+        QuickSort.quickSort(scratch, 0, length);
+        for (int i = 0; i < length; i++) {
+            set(low + i, scratch[i]);
+        }
+    }
+    
+    private long choosePivot(long low, long high) {
+        long mid = low + (high - low) / 2;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(low, mid, high);
+        }
+        
+        long step = (high - low + 1) / 8;
+        long a = medianOfThree(low, low + step, low + 2 * step);
+        long b = medianOfThree(mid - step, mid, mid + step);
+        long c = medianOfThree(high - 2 * step, high - step, high);
+        return medianOfThree(a, b, c);
+    }
+    
+    private long medianOfThree(long a, long b, long c) {
+        int va = get(a);
+        int vb = get(b);
+        int vc = get(c);
+        if (va < vb) {
+            if (vb < vc) return b;
+            return va < vc ? c : a;
+        }
+        if (va < vc) return a;
+        return vb < vc ? c : b;
+    }
+    
+    /**
+     * Hoare-style partition around the pivot stored at high; see QuickSort.partition
+     */
+    private long partition(long low, long high) {
+        int pivot = get(high);
+        long i = low - 1;
+        long j = high;
+        
+        while (true) {
+            while (get(++i) < pivot) {
+                // get(high) == pivot stops this scan
+            }
+            while (pivot < get(--j)) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(i, j);
+        }
+        
+        swap(i, high);
+        return i;
+    }
+    
+    private void heapSort(long low, long high) {
+        long n = high - low + 1;
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(low, i, n);
+        }
+        for (long end = n - 1; end > 0; end--) {
+            swap(low, low + end);
+            siftDown(low, 0, end);
+        }
+    }
+    
+    private void siftDown(long offset, long index, long size) {
+        int value = get(offset + index);
+        long child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && get(offset + child + 1) > get(offset + child)) {
+                child++;
+            }
+            if (value >= get(offset + child)) break;
+            set(offset + index, get(offset + child));
+            index = child;
+        }
+        set(offset + index, value);
+    }
+}
\ No newline at end of file
@@ -1,14 +1,35 @@
 package com.dsa.algorithms.sorting;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Merge Sort Implementation
  * 
  * Time Complexity: O(n log n) in all cases (worst, average, best)
- * Space Complexity: O(n) for the temporary arrays used during merging
+ * Space Complexity: O(n) for a single scratch buffer, allocated once per sort or
+ * supplied by the caller. Merges alternate between the array and the buffer.
  * 
  * Merge Sort is a divide-and-conquer algorithm that divides the array into halves,
  * recursively sorts them, and then merges the sorted halves.
  * 
+ * The parallel variant sorts both halves as fork-join tasks and merges them by
+ * splitting the larger run at its midpoint and binary searching the split point in
+ * the other run, so the merge itself also runs in parallel. Ranges below the
+ * threshold fall back to the sequential algorithm.
+ * Parallel span: O(log³ n)
+ * 
+ * The generic overloads sort object arrays and lists with a Comparator. They are
+ * stable: elements that compare equal keep their original relative order.
+ * 
+ * The long, short, char, float and double overloads run the same ping-pong merge on
+ * their own primitive type, so nothing is boxed. float and double use the total order
+ * of Float.compare / Double.compare: -0.0 sorts before 0.0 and NaN sorts last.
+ * 
  * Test this implementation:
  * ./gradlew test --tests "MergeSortTest"
  * ./gradlew test --tests "com.dsa.algorithms.sorting.MergeSortTest"
@@ -16,6 +37,15 @@ package com.dsa.algorithms.sorting;
  */
 public class MergeSort {
     
+    /** Ranges at or below this size are sorted sequentially by a single task */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    
+    /** Merges producing at or below this many elements are done sequentially */
+    private static final int PARALLEL_MERGE_THRESHOLD = 1 << 13;
+    
+    /** Ranges at or below this size are insertion sorted by the long/short/char/float/double overloads */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    
     /**
      * Sorts an array using the merge sort algorithm
      * @param arr the array to be sorted (modified in-place)
@@ -23,52 +53,602 @@ public class MergeSort {
     public static void mergeSort(int[] arr) {
         if (arr == null || arr.length <= 1) return;
         
-        mergeSortHelper(arr, 0, arr.length - 1);
+        mergeSort(arr, new int[arr.length]);
+    }
+    
+    /**
+     * Sorts an array using the merge sort algorithm with a caller-supplied scratch buffer.
+     * The sort itself performs no allocation, so one buffer can be reused across many calls.
+     * @param arr the array to be sorted (modified in-place)
+     * @param buffer scratch space of at least arr.length elements; its contents are overwritten
+     * @throws IllegalArgumentException if buffer is null or shorter than arr
+     */
+    public static void mergeSort(int[] arr, int[] buffer) {
+        if (arr == null || arr.length <= 1) return;
+        
+        mergeSort(arr, 0, arr.length, buffer);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the merge sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void mergeSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        if (toIndex - fromIndex <= 1) return;
+        
+        mergeSort(arr, fromIndex, toIndex, new int[toIndex - fromIndex]);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the merge sort algorithm with a
+     * caller-supplied scratch buffer, without allocating
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @param buffer scratch space of at least toIndex - fromIndex elements; its contents are overwritten
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @throws IllegalArgumentException if buffer is null or shorter than the range
+     */
+    public static void mergeSort(int[] arr, int fromIndex, int toIndex, int[] buffer) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        int length = toIndex - fromIndex;
+        if (length <= 1) return;
+        checkBuffer(buffer, length);
+        
+        System.arraycopy(arr, fromIndex, buffer, 0, length);
+        sortInto(buffer, 0, arr, fromIndex, 0, length);
+    }
+    
+    /**
+     * Sorts an array using the merge sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void mergeSort(long[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        mergeSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the merge sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void mergeSort(long[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        int length = toIndex - fromIndex;
+        if (length <= 1) return;
+        
+        long[] buffer = new long[length];
+        System.arraycopy(arr, fromIndex, buffer, 0, length);
+        sortInto(buffer, 0, arr, fromIndex, 0, length);
+    }
+    
+    /**
+     * Sorts an array using the merge sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void mergeSort(short[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        mergeSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the merge sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void mergeSort(short[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        int length = toIndex - fromIndex;
+        if (length <= 1) return;
+        
+        short[] buffer = new short[length];
+        System.arraycopy(arr, fromIndex, buffer, 0, length);
+        sortInto(buffer, 0, arr, fromIndex, 0, length);
+    }
+    
+    /**
+     * Sorts an array using the merge sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void mergeSort(char[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        mergeSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the merge sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void mergeSort(char[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        int length = toIndex - fromIndex;
+        if (length <= 1) return;
+        
+        char[] buffer = new char[length];
+        System.arraycopy(arr, fromIndex, buffer, 0, length);
+        sortInto(buffer, 0, arr, fromIndex, 0, length);
+    }
+    
+    /**
+     * Sorts an array using the merge sort algorithm
+     * Ordered by Float.compare: -0.0f sorts before 0.0f and NaN sorts last.
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void mergeSort(float[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        mergeSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the merge sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void mergeSort(float[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        int length = toIndex - fromIndex;
+        if (length <= 1) return;
+        
+        float[] buffer = new float[length];
+        System.arraycopy(arr, fromIndex, buffer, 0, length);
+        sortInto(buffer, 0, arr, fromIndex, 0, length);
+    }
+    
+    /**
+     * Sorts an array using the merge sort algorithm
+     * Ordered by Double.compare: -0.0 sorts before 0.0 and NaN sorts last.
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void mergeSort(double[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        mergeSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the merge sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void mergeSort(double[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        int length = toIndex - fromIndex;
+        if (length <= 1) return;
+        
+        double[] buffer = new double[length];
+        System.arraycopy(arr, fromIndex, buffer, 0, length);
+        sortInto(buffer, 0, arr, fromIndex, 0, length);
+    }
+    
+    /**
+     * Sorts an array using merge sort on the common fork-join pool
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void parallelMergeSort(int[] arr) {
+        parallelMergeSort(arr, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Sorts an array using a parallel fork-join merge sort
+     * @param arr the array to be sorted (modified in-place)
+     * @param pool the pool that runs the sort and merge tasks
+     * @throws IllegalArgumentException if pool is null
+     */
+    public static void parallelMergeSort(int[] arr, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (arr == null || arr.length <= 1) return;
+        
+        parallelMergeSort(arr, new int[arr.length], pool);
+    }
+    
+    /**
+     * Sorts an array using a parallel fork-join merge sort with a caller-supplied scratch buffer
+     * @param arr the array to be sorted (modified in-place)
+     * @param buffer scratch space of at least arr.length elements; its contents are overwritten
+     * @param pool the pool that runs the sort and merge tasks
+     * @throws IllegalArgumentException if pool is null, or buffer is null or shorter than arr
+     */
+    public static void parallelMergeSort(int[] arr, int[] buffer, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (arr == null || arr.length <= 1) return;
+        checkBuffer(buffer, arr.length);
+        
+        System.arraycopy(arr, 0, buffer, 0, arr.length);
+        if (arr.length <= PARALLEL_SORT_THRESHOLD) {
+            sortInto(buffer, 0, arr, 0, 0, arr.length);
+        } else {
+            pool.invoke(new SortTask(buffer, arr, 0, arr.length));
+        }
+    }
+    
+    /**
+     * Sorts an object array using a stable merge sort
+     * @param arr the array to be sorted (modified in-place)
+     * @param comparator the ordering to sort by
+     * @throws IllegalArgumentException if comparator is null
+     */
+    public static <T> void mergeSort(T[] arr, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (arr == null || arr.length <= 1) return;
+        
+        sortInto(arr.clone(), arr, 0, arr.length, comparator);
+    }
+    
+    /**
+     * Sorts a list using a stable merge sort. The elements are copied into an array
+     * once, sorted there, and written back in a single pass.
+     * @param list the list to be sorted (modified in-place, must support set)
+     * @param comparator the ordering to sort by
+     * @throws IllegalArgumentException if comparator is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void mergeSort(List<T> list, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (list == null || list.size() <= 1) return;
+        
+        T[] arr = (T[]) list.toArray();
+        mergeSort(arr, comparator);
+        writeBack(list, arr);
+    }
+    
+    private static <T> void writeBack(List<T> list, T[] sorted) {
+        ListIterator<T> iterator = list.listIterator();
+        for (T element : sorted) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+    
+    private static void checkBuffer(int[] buffer, int length) {
+        if (buffer == null || buffer.length < length) {
+            throw new IllegalArgumentException("Buffer must hold at least " + length + " elements");
+        }
+    }
+    
+    /**
+     * Sorts the logical range [low, high) of src into dest, where logical index i lives at
+     * src[srcOffset + i] and dest[destOffset + i]. Both ranges must hold the same elements
+     * on entry; src is used as scratch space. Each level of recursion swaps the roles of
+     * the two arrays, so no copying back is ever needed.
+     */
+    private static void sortInto(int[] src, int srcOffset, int[] dest, int destOffset,
+                                 int low, int high) {
+        if (high - low <= SmallSort.MAX_NETWORK_SIZE) {
+            // dest already holds the same elements as src, so sort them where they are
+            SmallSort.sort(dest, destOffset + low, destOffset + high);
+            return;
+        }
+        
+        int mid = low + (high - low) / 2;
+        sortInto(dest, destOffset, src, srcOffset, low, mid);
+        sortInto(dest, destOffset, src, srcOffset, mid, high);
+        merge(src, srcOffset + low, srcOffset + mid, srcOffset + mid, srcOffset + high,
+              dest, destOffset + low);
+    }
+    
+    private static <T> void sortInto(T[] src, T[] dest, int low, int high,
+                                     Comparator<? super T> comparator) {
+        if (high - low < 2) return;
+        
+        int mid = low + (high - low) / 2;
+        sortInto(dest, src, low, mid, comparator);
+        sortInto(dest, src, mid, high, comparator);
+        
+        // Already in order: the two runs can be copied across as they are
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, low, high - low);
+            return;
+        }
+        
+        int i = low, j = mid, k = low;
+        while (i < mid && j < high) {
+            if (comparator.compare(src[i], src[j]) <= 0) {
+                dest[k++] = src[i++];
+            } else {
+                dest[k++] = src[j++];
+            }
+        }
+        
+        System.arraycopy(src, i, dest, k, mid - i);
+        System.arraycopy(src, j, dest, k + mid - i, high - j);
     }
     
-    private static void mergeSortHelper(int[] arr, int left, int right) {
-        if (left < right) {
-            int mid = left + (right - left) / 2;
+    /**
+     * Parallel counterpart of sortInto: sorts src[low, high) into dest[low, high)
+     */
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[] src;
+        private final int[] dest;
+        private final int low;
+        private final int high;
+        
+        SortTask(int[] src, int[] dest, int low, int high) {
+            this.src = src;
+            this.dest = dest;
+            this.low = low;
+            this.high = high;
+        }
+        
+        @Override
+        protected void compute() {
+            if (high - low <= PARALLEL_SORT_THRESHOLD) {
+                sortInto(src, 0, dest, 0, low, high);
+                return;
+            }
             
-            mergeSortHelper(arr, left, mid);
-            mergeSortHelper(arr, mid + 1, right);
-            merge(arr, left, mid, right);
+            int mid = low + (high - low) / 2;
+            invokeAll(new SortTask(dest, src, low, mid), new SortTask(dest, src, mid, high));
+            new MergeTask(src, low, mid, mid, high, dest, low).compute();
         }
     }
     
-    private static void merge(int[] arr, int left, int mid, int right) {
-        int n1 = mid - left + 1;
-        int n2 = right - mid;
+    /**
+     * Merges the sorted runs src[leftLow, leftHigh) and src[rightLow, rightHigh)
+     * into dest starting at destLow. Equal elements keep left-run-first order.
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
         
-        int[] leftArr = new int[n1];
-        int[] rightArr = new int[n2];
+        private final int[] src;
+        private final int leftLow;
+        private final int leftHigh;
+        private final int rightLow;
+        private final int rightHigh;
+        private final int[] dest;
+        private final int destLow;
         
-        System.arraycopy(arr, left, leftArr, 0, n1);
-        System.arraycopy(arr, mid + 1, rightArr, 0, n2);
+        MergeTask(int[] src, int leftLow, int leftHigh, int rightLow, int rightHigh,
+                  int[] dest, int destLow) {
+            this.src = src;
+            this.leftLow = leftLow;
+            this.leftHigh = leftHigh;
+            this.rightLow = rightLow;
+            this.rightHigh = rightHigh;
+            this.dest = dest;
+            this.destLow = destLow;
+        }
         
-        int i = 0, j = 0, k = left;
+        @Override
+        protected void compute() {
+            int leftLength = leftHigh - leftLow;
+            int rightLength = rightHigh - rightLow;
+            
+            if (leftLength + rightLength <= PARALLEL_MERGE_THRESHOLD) {
+                merge(src, leftLow, leftHigh, rightLow, rightHigh, dest, destLow);
+                return;
+            }
+            
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = leftLow + leftLength / 2;
+                rightSplit = lowerBound(src, rightLow, rightHigh, src[leftSplit]);
+            } else {
+                rightSplit = rightLow + rightLength / 2;
+                leftSplit = upperBound(src, leftLow, leftHigh, src[rightSplit]);
+            }
+            
+            int destSplit = destLow + (leftSplit - leftLow) + (rightSplit - rightLow);
+            invokeAll(
+                new MergeTask(src, leftLow, leftSplit, rightLow, rightSplit, dest, destLow),
+                new MergeTask(src, leftSplit, leftHigh, rightSplit, rightHigh, dest, destSplit));
+        }
+    }
+    
+    private static void merge(int[] src, int i, int leftHigh, int j, int rightHigh,
+                              int[] dest, int k) {
+        while (i < leftHigh && j < rightHigh) {
+            if (src[i] <= src[j]) {
+                dest[k++] = src[i++];
+            } else {
+                dest[k++] = src[j++];
+            }
+        }
+        
+        System.arraycopy(src, i, dest, k, leftHigh - i);
+        System.arraycopy(src, j, dest, k + leftHigh - i, rightHigh - j);
+    }
+    
+    private static void sortInto(long[] src, int srcOffset, long[] dest, int destOffset,
+                                 int low, int high) {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.insertionSort(dest, destOffset + low, destOffset + high);
+            return;
+        }
+        
+        int mid = low + (high - low) / 2;
+        sortInto(dest, destOffset, src, srcOffset, low, mid);
+        sortInto(dest, destOffset, src, srcOffset, mid, high);
+        merge(src, srcOffset + low, srcOffset + mid, srcOffset + mid, srcOffset + high,
+              dest, destOffset + low);
+    }
+    
+    private static void merge(long[] src, int i, int leftHigh, int j, int rightHigh,
+                              long[] dest, int k) {
+        while (i < leftHigh && j < rightHigh) {
+            if (src[j] < src[i]) {
+                dest[k++] = src[j++];
+            } else {
+                dest[k++] = src[i++];
+            }
+        }
+        
+        System.arraycopy(src, i, dest, k, leftHigh - i);
+        System.arraycopy(src, j, dest, k + leftHigh - i, rightHigh - j);
+    }
+    
+    private static void sortInto(short[] src, int srcOffset, short[] dest, int destOffset,
+                                 int low, int high) {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.insertionSort(dest, destOffset + low, destOffset + high);
+            return;
+        }
         
-        while (i < n1 && j < n2) {
-            if (leftArr[i] <= rightArr[j]) {
-                arr[k] = leftArr[i];
-                i++;
+        int mid = low + (high - low) / 2;
+        sortInto(dest, destOffset, src, srcOffset, low, mid);
+        sortInto(dest, destOffset, src, srcOffset, mid, high);
+        merge(src, srcOffset + low, srcOffset + mid, srcOffset + mid, srcOffset + high,
+              dest, destOffset + low);
+    }
+    
+    private static void merge(short[] src, int i, int leftHigh, int j, int rightHigh,
+                              short[] dest, int k) {
+        while (i < leftHigh && j < rightHigh) {
+            if (src[j] < src[i]) {
+                dest[k++] = src[j++];
             } else {
-                arr[k] = rightArr[j];
-                j++;
+                dest[k++] = src[i++];
             }
-            k++;
         }
         
-        while (i < n1) {
-            arr[k] = leftArr[i];
-            i++;
-            k++;
+        System.arraycopy(src, i, dest, k, leftHigh - i);
+        System.arraycopy(src, j, dest, k + leftHigh - i, rightHigh - j);
+    }
+    
+    private static void sortInto(char[] src, int srcOffset, char[] dest, int destOffset,
+                                 int low, int high) {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.insertionSort(dest, destOffset + low, destOffset + high);
+            return;
+        }
+        
+        int mid = low + (high - low) / 2;
+        sortInto(dest, destOffset, src, srcOffset, low, mid);
+        sortInto(dest, destOffset, src, srcOffset, mid, high);
+        merge(src, srcOffset + low, srcOffset + mid, srcOffset + mid, srcOffset + high,
+              dest, destOffset + low);
+    }
+    
+    private static void merge(char[] src, int i, int leftHigh, int j, int rightHigh,
+                              char[] dest, int k) {
+        while (i < leftHigh && j < rightHigh) {
+            if (src[j] < src[i]) {
+                dest[k++] = src[j++];
+            } else {
+                dest[k++] = src[i++];
+            }
         }
         
-        while (j < n2) {
-            arr[k] = rightArr[j];
-            j++;
-            k++;
+        System.arraycopy(src, i, dest, k, leftHigh - i);
+        System.arraycopy(src, j, dest, k + leftHigh - i, rightHigh - j);
+    }
+    
+    private static void sortInto(float[] src, int srcOffset, float[] dest, int destOffset,
+                                 int low, int high) {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.insertionSort(dest, destOffset + low, destOffset + high);
+            return;
+        }
+        
+        int mid = low + (high - low) / 2;
+        sortInto(dest, destOffset, src, srcOffset, low, mid);
+        sortInto(dest, destOffset, src, srcOffset, mid, high);
+        merge(src, srcOffset + low, srcOffset + mid, srcOffset + mid, srcOffset + high,
+              dest, destOffset + low);
+    }
+    
+    private static void merge(float[] src, int i, int leftHigh, int j, int rightHigh,
+                              float[] dest, int k) {
+        while (i < leftHigh && j < rightHigh) {
+            if (Float.compare(src[j], src[i]) < 0) {
+                dest[k++] = src[j++];
+            } else {
+                dest[k++] = src[i++];
+            }
+        }
+        
+        System.arraycopy(src, i, dest, k, leftHigh - i);
+        System.arraycopy(src, j, dest, k + leftHigh - i, rightHigh - j);
+    }
+    
+    private static void sortInto(double[] src, int srcOffset, double[] dest, int destOffset,
+                                 int low, int high) {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.insertionSort(dest, destOffset + low, destOffset + high);
+            return;
+        }
+        
+        int mid = low + (high - low) / 2;
+        sortInto(dest, destOffset, src, srcOffset, low, mid);
+        sortInto(dest, destOffset, src, srcOffset, mid, high);
+        merge(src, srcOffset + low, srcOffset + mid, srcOffset + mid, srcOffset + high,
+              dest, destOffset + low);
+    }
+    
+    private static void merge(double[] src, int i, int leftHigh, int j, int rightHigh,
+                              double[] dest, int k) {
+        while (i < leftHigh && j < rightHigh) {
+            if (Double.compare(src[j], src[i]) < 0) {
+                dest[k++] = src[j++];
+            } else {
+                dest[k++] = src[i++];
+            }
+        }
+        
+        System.arraycopy(src, i, dest, k, leftHigh - i);
+        System.arraycopy(src, j, dest, k + leftHigh - i, rightHigh - j);
+    }
+    
+    /** First index in arr[low, high) whose value is >= key */
+    private static int lowerBound(int[] arr, int low, int high, int key) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    /** First index in arr[low, high) whose value is > key */
+    private static int upperBound(int[] arr, int low, int high, int key) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
+        return low;
     }
 }
\ No newline at end of file
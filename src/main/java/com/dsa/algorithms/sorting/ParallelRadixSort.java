@@ -0,0 +1,284 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel Radix Sort Implementation (MSD, one byte per level)
+ * 
+ * Time Complexity: O(4 * n) work, split across the threads of a fork-join pool
+ * Space Complexity: O(n) for one scratch buffer
+ * 
+ * Most-significant-digit Radix Sort distributes the keys into 256 buckets by their top
+ * byte. Every bucket then only holds keys that share that byte, so each one can be sorted
+ * by the next byte independently of the others.
+ * 
+ * - the top-level histogram and scatter are split into chunks counted and scattered in
+ *   parallel, each chunk writing to its own precomputed slice of every bucket
+ * - buckets are then sorted as independent fork-join tasks, recursing one byte at a time
+ * - buckets below a threshold are sorted in the current task instead of being forked,
+ *   and tiny buckets fall back to a SmallSort kernel
+ * - a level is skipped when every key in the bucket has the same byte there
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "ParallelRadixSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.ParallelRadixSortTest"
+ * ./gradlew test --tests "*ParallelRadixSort*"
+ */
+public class ParallelRadixSort {
+    
+    private static final int RADIX = 256;
+    
+    /** Index of the most significant byte */
+    private static final int TOP_PASS = Integer.BYTES - 1;
+    
+    /** Buckets at or below this size are sorted with a SmallSort kernel */
+    private static final int SMALL_SORT_THRESHOLD = 32;
+    
+    /** Buckets at or above this size are sorted in their own fork-join task */
+    private static final int FORK_THRESHOLD = 1 << 14;
+    
+    /** Minimum number of elements per chunk in the parallel top-level pass */
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+    
+    /**
+     * Sorts an array using parallel MSD radix sort on the common fork-join pool
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void parallelRadixSort(int[] arr) {
+        parallelRadixSort(arr, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Sorts an array using parallel MSD radix sort
+     * @param arr the array to be sorted (modified in-place)
+     * @param pool the pool that runs the counting, scatter and bucket tasks
+     * @throws IllegalArgumentException if pool is null
+     */
+    public static void parallelRadixSort(int[] arr, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (arr == null || arr.length <= 1) return;
+        
+        if (arr.length <= SMALL_SORT_THRESHOLD) {
+            SmallSort.sort(arr, 0, arr.length);
+            return;
+        }
+        
+        int[] buffer = new int[arr.length];
+        int chunks = Math.min(arr.length / MIN_CHUNK_SIZE, pool.getParallelism() * 4);
+        if (chunks <= 1) {
+            pool.invoke(new BucketTask(arr, arr, buffer, 0, arr.length, TOP_PASS));
+        } else {
+            pool.invoke(new TopLevelTask(arr, buffer, chunks));
+        }
+    }
+    
+    /**
+     * Distributes the whole array by its top byte using parallel chunks, then sorts every bucket
+     */
+    private static final class TopLevelTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[] arr;
+        private final int[] buffer;
+        private final int chunks;
+        
+        TopLevelTask(int[] arr, int[] buffer, int chunks) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.chunks = chunks;
+        }
+        
+        @Override
+        protected void compute() {
+            int n = arr.length;
+            int[][] positions = new int[chunks][RADIX];
+            List<ChunkTask> tasks = new ArrayList<>(chunks);
+            for (int c = 0; c < chunks; c++) {
+                long low = (long) n * c / chunks;
+                long high = (long) n * (c + 1) / chunks;
+                tasks.add(new ChunkTask(arr, buffer, (int) low, (int) high, positions[c], false));
+            }
+            invokeAll(tasks);
+            
+            // Bucket-major, chunk-minor offsets keep the scatter stable and free of contention
+            int[] bucketStarts = new int[RADIX + 1];
+            int sum = 0;
+            for (int d = 0; d < RADIX; d++) {
+                bucketStarts[d] = sum;
+                for (int c = 0; c < chunks; c++) {
+                    int count = positions[c][d];
+                    positions[c][d] = sum;
+                    sum += count;
+                }
+            }
+            bucketStarts[RADIX] = n;
+            
+            for (int c = 0; c < chunks; c++) {
+                ChunkTask counted = tasks.get(c);
+                tasks.set(c, new ChunkTask(arr, buffer, counted.low, counted.high, positions[c], true));
+            }
+            invokeAll(tasks);
+            
+            sortBuckets(arr, buffer, arr, bucketStarts, TOP_PASS - 1);
+        }
+    }
+    
+    /**
+     * Counts the top-byte digits of src[low, high), or scatters them into dest using positions
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[] src;
+        private final int[] dest;
+        private final int low;
+        private final int high;
+        private final int[] positions;
+        private final boolean scatter;
+        
+        ChunkTask(int[] src, int[] dest, int low, int high, int[] positions, boolean scatter) {
+            this.src = src;
+            this.dest = dest;
+            this.low = low;
+            this.high = high;
+            this.positions = positions;
+            this.scatter = scatter;
+        }
+        
+        @Override
+        protected void compute() {
+            if (scatter) {
+                for (int i = low; i < high; i++) {
+                    int value = src[i];
+                    dest[positions[digit(value, TOP_PASS)]++] = value;
+                }
+            } else {
+                for (int i = low; i < high; i++) {
+                    positions[digit(src[i], TOP_PASS)]++;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Sorts src[low, high) by bytes pass down to 0, leaving the result in arr[low, high).
+     * src and dest are arr and the scratch buffer in either order.
+     */
+    private static final class BucketTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[] arr;
+        private final int[] src;
+        private final int[] dest;
+        private final int low;
+        private final int high;
+        private final int pass;
+        
+        BucketTask(int[] arr, int[] src, int[] dest, int low, int high, int pass) {
+            this.arr = arr;
+            this.src = src;
+            this.dest = dest;
+            this.low = low;
+            this.high = high;
+            this.pass = pass;
+        }
+        
+        @Override
+        protected void compute() {
+            int[] from = src;
+            int[] to = dest;
+            int level = pass;
+            int[] bucketStarts = new int[RADIX + 1];
+            
+            while (true) {
+                if (high - low <= SMALL_SORT_THRESHOLD) {
+                    if (from != arr) {
+                        System.arraycopy(from, low, arr, low, high - low);
+                    }
+                    SmallSort.sort(arr, low, high);
+                    return;
+                }
+                
+                for (int i = low; i < high; i++) {
+                    bucketStarts[digit(from[i], level) + 1]++;
+                }
+                
+                // Every key shares this byte: go straight to the next one without scattering
+                boolean constant = false;
+                for (int d = 1; d <= RADIX; d++) {
+                    if (bucketStarts[d] == high - low) {
+                        constant = true;
+                        break;
+                    }
+                }
+                
+                if (!constant) break;
+                if (level == 0) {
+                    if (from != arr) {
+                        System.arraycopy(from, low, arr, low, high - low);
+                    }
+                    return;
+                }
+                Arrays.fill(bucketStarts, 0);
+                level--;
+            }
+            
+            int[] positions = new int[RADIX];
+            bucketStarts[0] = low;
+            for (int d = 0; d < RADIX; d++) {
+                bucketStarts[d + 1] += bucketStarts[d];
+                positions[d] = bucketStarts[d];
+            }
+            for (int i = low; i < high; i++) {
+                int value = from[i];
+                to[positions[digit(value, level)]++] = value;
+            }
+            
+            if (level == 0) {
+                if (to != arr) {
+                    System.arraycopy(to, low, arr, low, high - low);
+                }
+                return;
+            }
+            
+            sortBuckets(arr, to, from, bucketStarts, level - 1);
+        }
+    }
+    
+    /**
+     * Sorts each bucket [bucketStarts[d], bucketStarts[d + 1]) of src by the given byte,
+     * forking the large ones and handling the rest in the calling task
+     */
+    private static void sortBuckets(int[] arr, int[] src, int[] dest, int[] bucketStarts, int pass) {
+        List<BucketTask> forked = new ArrayList<>();
+        for (int d = 0; d < RADIX; d++) {
+            int low = bucketStarts[d];
+            int high = bucketStarts[d + 1];
+            if (high - low == 0) continue;
+            
+            BucketTask task = new BucketTask(arr, src, dest, low, high, pass);
+            if (high - low >= FORK_THRESHOLD) {
+                task.fork();
+                forked.add(task);
+            } else {
+                task.compute();
+            }
+        }
+        
+        for (BucketTask task : forked) {
+            task.join();
+        }
+    }
+    
+    /** Byte number pass of value (0 = lowest), with the sign bit flipped on the top byte */
+    private static int digit(int value, int pass) {
+        int b = (value >>> (pass * 8)) & 0xFF;
+        return pass == TOP_PASS ? b ^ 0x80 : b;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.dsa.algorithms.sorting;
+
+/**
+ * Quick Select Implementation (selection, partial sort and top-k)
+ * 
+ * Time Complexity: O(n) expected, O(n) worst case thanks to the median-of-medians fallback
+ * Space Complexity: O(log n) for select and partialSort, O(n) for topK (works on a copy)
+ * 
+ * Quick Select partitions the array around a pivot exactly like QuickSort, but then only
+ * continues into the side that contains the wanted position, so the work shrinks
+ * geometrically instead of staying at n per level.
+ * 
+ * - pivots are chosen and partitioned with QuickSort's own median-of-three / ninther
+ *   and partition steps
+ * - if the search has not converged after 2*log2(n) partitions, the remaining steps use
+ *   the median of medians of groups of five as pivot (introselect), which guarantees
+ *   each step discards at least 30% of the range
+ * - small ranges are finished with a SmallSort kernel
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "QuickSelectTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.QuickSelectTest"
+ * ./gradlew test --tests "*QuickSelect*"
+ */
+public class QuickSelect {
+    
+    /** Ranges at or below this size are finished by sorting them */
+    private static final int SMALL_RANGE = 16;
+    
+    /**
+     * Finds the k-th smallest element (0-based), like C++ nth_element. Afterwards arr[k]
+     * holds that element, everything before it is <= arr[k] and everything after is >= arr[k].
+     * @param arr the array to select from (reordered in-place)
+     * @param k the 0-based rank to select
+     * @return the k-th smallest element
+     * @throws IllegalArgumentException if arr is null or empty
+     * @throws IndexOutOfBoundsException if k is not a valid index
+     */
+    public static int select(int[] arr, int k) {
+        if (arr == null || arr.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (k < 0 || k >= arr.length) {
+            throw new IndexOutOfBoundsException("k = " + k + ", length = " + arr.length);
+        }
+        
+        select(arr, 0, arr.length - 1, k);
+        return arr[k];
+    }
+    
+    /**
+     * Rearranges the array so its first k positions hold the k smallest elements in
+     * ascending order. The order of the remaining elements is unspecified.
+     * @param arr the array to partially sort (reordered in-place)
+     * @param k how many of the smallest elements to sort into place
+     * @throws IndexOutOfBoundsException if k is negative or greater than arr.length
+     */
+    public static void partialSort(int[] arr, int k) {
+        if (arr == null) return;
+        if (k < 0 || k > arr.length) {
+            throw new IndexOutOfBoundsException("k = " + k + ", length = " + arr.length);
+        }
+        if (k == 0) return;
+        
+        // arr[k - 1] is already the largest of the k, only the ones before it need sorting
+        select(arr, 0, arr.length - 1, k - 1);
+        QuickSort.quickSort(arr, 0, k - 1);
+    }
+    
+    /**
+     * Returns the k largest elements in descending order, leaving arr unchanged
+     * @param arr the array to select from
+     * @param k how many elements to return
+     * @return a new array of the k largest elements, largest first
+     * @throws IndexOutOfBoundsException if k is negative or greater than arr.length
+     */
+    public static int[] topK(int[] arr, int k) {
+        if (arr == null) return new int[0];
+        if (k < 0 || k > arr.length) {
+            throw new IndexOutOfBoundsException("k = " + k + ", length = " + arr.length);
+        }
+        if (k == 0) return new int[0];
+        
+        int[] copy = arr.clone();
+        int n = copy.length;
+        select(copy, 0, n - 1, n - k);
+        
+        int[] result = new int[k];
+        System.arraycopy(copy, n - k, result, 0, k);
+        QuickSort.quickSort(result);
+        for (int i = 0, j = k - 1; i < j; i++, j--) {
+            int temp = result[i];
+            result[i] = result[j];
+            result[j] = temp;
+        }
+        return result;
+    }
+    
+    /**
+     * Places the element of rank k within arr[low..high] at index k, partitioned around it
+     */
+    private static void select(int[] arr, int low, int high, int k) {
+        int budget = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+        
+        while (high - low + 1 > SMALL_RANGE) {
+            int pivotIndex = budget > 0
+                ? QuickSort.choosePivot(arr, low, high)
+                : medianOfMedians(arr, low, high);
+            budget--;
+            
+            swap(arr, pivotIndex, high);
+            int partitionIndex = QuickSort.partition(arr, low, high);
+            
+            if (partitionIndex == k) {
+                return;
+            } else if (k < partitionIndex) {
+                high = partitionIndex - 1;
+            } else {
+                low = partitionIndex + 1;
+            }
+        }
+        
+        SmallSort.sort(arr, low, high + 1);
+    }
+    
+    /**
+     * Returns the index of an element that is guaranteed to have at least ~30% of
+     * arr[low..high] on each side: the median of the medians of groups of five.
+     * The group medians are gathered at the front of the range along the way.
+     */
+    private static int medianOfMedians(int[] arr, int low, int high) {
+        int groups = 0;
+        for (int start = low; start <= high; start += 5) {
+            int end = Math.min(start + 5, high + 1);
+            SmallSort.networkSort(arr, start, end);
+            swap(arr, low + groups, start + (end - start - 1) / 2);
+            groups++;
+        }
+        
+        int mid = low + (groups - 1) / 2;
+        select(arr, low, low + groups - 1, mid);
+        return mid;
+    }
+    
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
\ No newline at end of file
@@ -1,14 +1,38 @@
 package com.dsa.algorithms.sorting;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
 /**
  * Quick Sort Implementation
  * 
- * Time Complexity: O(n log n) average case, O(n²) worst case
+ * Time Complexity: O(n log n) average and worst case (introsort)
  * Space Complexity: O(log n) due to recursion stack
  * 
  * Quick Sort is a divide-and-conquer algorithm that picks a 'pivot' element and
  * partitions the array around the pivot, then recursively sorts the sub-arrays.
  * 
+ * This version is an introsort:
+ * - the pivot is the median of three elements (or the ninther, a median of three
+ *   medians, for large ranges), so sorted and reverse-sorted input split evenly
+ * - once recursion passes 2*log2(n) levels the range is finished with heap sort,
+ *   which caps the worst case at O(n log n)
+ * - ranges of 16 or fewer elements are finished with a SmallSort kernel
+ * - only the smaller side is recursed into and the larger side is looped on,
+ *   so the stack depth is O(log n) even before the depth limit kicks in
+ * 
+ * The long, short, char, float and double overloads run the same introsort on their
+ * own primitive type (finishing small ranges with InsertionSort), so nothing is boxed.
+ * float and double use the total order of Float.compare / Double.compare: -0.0 sorts
+ * before 0.0 and NaN sorts last, matching Arrays.sort.
+ * 
+ * The generic overloads sort object arrays and lists with a Comparator using the
+ * same introsort. Like any quick sort they are not stable; use MergeSort when equal
+ * elements must keep their order, or InPlaceMergeSort when there is no room for its
+ * O(n) buffer.
+ * 
  * Test this implementation:
  * ./gradlew test --tests "QuickSortTest"
  * ./gradlew test --tests "com.dsa.algorithms.sorting.QuickSortTest"
@@ -16,6 +40,12 @@ package com.dsa.algorithms.sorting;
  */
 public class QuickSort {
     
+    /** Ranges at or below this size are finished with SmallSort (int) or insertion sort (other types) */
+    private static final int SMALL_SORT_THRESHOLD = 16;
+    
+    /** Ranges above this size use the ninther instead of a plain median of three */
+    private static final int NINTHER_THRESHOLD = 128;
+    
     /**
      * Sorts an array using the quick sort algorithm
      * @param arr the array to be sorted (modified in-place)
@@ -23,31 +53,294 @@ public class QuickSort {
     public static void quickSort(int[] arr) {
         if (arr == null || arr.length <= 1) return;
         
-        quickSortHelper(arr, 0, arr.length - 1);
+        quickSortHelper(arr, 0, arr.length - 1, depthLimit(arr.length));
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the quick sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void quickSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        if (toIndex - fromIndex <= 1) return;
+        
+        quickSortHelper(arr, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex));
+    }
+    
+    /**
+     * Sorts an array using the quick sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void quickSort(long[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        quickSortHelper(arr, 0, arr.length - 1, depthLimit(arr.length));
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the quick sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void quickSort(long[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        if (toIndex - fromIndex <= 1) return;
+        
+        quickSortHelper(arr, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex));
+    }
+    
+    /**
+     * Sorts an array using the quick sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void quickSort(short[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        quickSortHelper(arr, 0, arr.length - 1, depthLimit(arr.length));
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the quick sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void quickSort(short[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        if (toIndex - fromIndex <= 1) return;
+        
+        quickSortHelper(arr, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex));
+    }
+    
+    /**
+     * Sorts an array using the quick sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void quickSort(char[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        quickSortHelper(arr, 0, arr.length - 1, depthLimit(arr.length));
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the quick sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void quickSort(char[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        if (toIndex - fromIndex <= 1) return;
+        
+        quickSortHelper(arr, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex));
+    }
+    
+    /**
+     * Sorts an array using the quick sort algorithm
+     * Ordered by Float.compare: -0.0f sorts before 0.0f and NaN sorts last.
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void quickSort(float[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        quickSortHelper(arr, 0, arr.length - 1, depthLimit(arr.length));
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the quick sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void quickSort(float[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        if (toIndex - fromIndex <= 1) return;
+        
+        quickSortHelper(arr, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex));
+    }
+    
+    /**
+     * Sorts an array using the quick sort algorithm
+     * Ordered by Double.compare: -0.0 sorts before 0.0 and NaN sorts last.
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void quickSort(double[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        quickSortHelper(arr, 0, arr.length - 1, depthLimit(arr.length));
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the quick sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void quickSort(double[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        if (toIndex - fromIndex <= 1) return;
+        
+        quickSortHelper(arr, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex));
+    }
+    
+    /**
+     * Sorts an object array using the quick sort algorithm (not stable)
+     * @param arr the array to be sorted (modified in-place)
+     * @param comparator the ordering to sort by
+     * @throws IllegalArgumentException if comparator is null
+     */
+    public static <T> void quickSort(T[] arr, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (arr == null || arr.length <= 1) return;
+        
+        quickSortHelper(arr, 0, arr.length - 1, depthLimit(arr.length), comparator);
+    }
+    
+    /**
+     * Sorts a list using the quick sort algorithm (not stable). The elements are copied
+     * into an array once, sorted there, and written back in a single pass.
+     * @param list the list to be sorted (modified in-place, must support set)
+     * @param comparator the ordering to sort by
+     * @throws IllegalArgumentException if comparator is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void quickSort(List<T> list, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (list == null || list.size() <= 1) return;
+        
+        T[] arr = (T[]) list.toArray();
+        quickSort(arr, comparator);
+        
+        ListIterator<T> iterator = list.listIterator();
+        for (T element : arr) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+    
+    private static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
     }
     
-    private static void quickSortHelper(int[] arr, int low, int high) {
-        if (low < high) {
+    private static void quickSortHelper(int[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > SMALL_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+            depthLimit--;
+            
+            swap(arr, choosePivot(arr, low, high), high);
             int partitionIndex = partition(arr, low, high);
             
-            quickSortHelper(arr, low, partitionIndex - 1);
-            quickSortHelper(arr, partitionIndex + 1, high);
+            // Recurse into the smaller side, loop on the larger one
+            if (partitionIndex - low < high - partitionIndex) {
+                quickSortHelper(arr, low, partitionIndex - 1, depthLimit);
+                low = partitionIndex + 1;
+            } else {
+                quickSortHelper(arr, partitionIndex + 1, high, depthLimit);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        SmallSort.sort(arr, low, high + 1);
+    }
+    
+    /**
+     * Picks the index of a pivot for arr[low..high]: median of three, or ninther for large ranges
+     */
+    static int choosePivot(int[] arr, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(arr, low, mid, high);
+        }
+        
+        int step = (high - low + 1) / 8;
+        int a = medianOfThree(arr, low, low + step, low + 2 * step);
+        int b = medianOfThree(arr, mid - step, mid, mid + step);
+        int c = medianOfThree(arr, high - 2 * step, high - step, high);
+        return medianOfThree(arr, a, b, c);
+    }
+    
+    private static int medianOfThree(int[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            if (arr[b] < arr[c]) return b;
+            return arr[a] < arr[c] ? c : a;
         }
+        if (arr[a] < arr[c]) return a;
+        return arr[b] < arr[c] ? c : b;
     }
     
-    private static int partition(int[] arr, int low, int high) {
+    /**
+     * Partitions arr[low..high] around the pivot stored at arr[high] and returns the
+     * pivot's final index. Both scans stop on elements equal to the pivot, so runs of
+     * duplicates are split evenly instead of all landing on one side.
+     */
+    static int partition(int[] arr, int low, int high) {
         int pivot = arr[high];
         int i = low - 1;
+        int j = high;
         
-        for (int j = low; j < high; j++) {
-            if (arr[j] < pivot) {
-                i++;
-                swap(arr, i, j);
+        while (true) {
+            while (arr[++i] < pivot) {
+                // arr[high] == pivot stops this scan
+            }
+            while (pivot < arr[--j]) {
+                if (j == low) break;
             }
+            if (i >= j) break;
+            swap(arr, i, j);
         }
         
-        swap(arr, i + 1, high);
-        return i + 1;
+        swap(arr, i, high);
+        return i;
+    }
+    
+    /**
+     * Sorts arr[low..high] with heap sort, the fallback once the depth limit is reached
+     */
+    static void heapSort(int[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+    
+    private static void siftDown(int[] arr, int offset, int index, int size) {
+        int value = arr[offset + index];
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && arr[offset + child + 1] > arr[offset + child]) {
+                child++;
+            }
+            if (value >= arr[offset + child]) break;
+            arr[offset + index] = arr[offset + child];
+            index = child;
+        }
+        arr[offset + index] = value;
     }
     
     private static void swap(int[] arr, int i, int j) {
@@ -55,4 +348,594 @@ public class QuickSort {
         arr[i] = arr[j];
         arr[j] = temp;
     }
+    
+    private static void quickSortHelper(long[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > SMALL_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+            depthLimit--;
+            
+            swap(arr, choosePivot(arr, low, high), high);
+            int partitionIndex = partition(arr, low, high);
+            
+            if (partitionIndex - low < high - partitionIndex) {
+                quickSortHelper(arr, low, partitionIndex - 1, depthLimit);
+                low = partitionIndex + 1;
+            } else {
+                quickSortHelper(arr, partitionIndex + 1, high, depthLimit);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        InsertionSort.insertionSort(arr, low, high + 1);
+    }
+    
+    private static int choosePivot(long[] arr, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(arr, low, mid, high);
+        }
+        
+        int step = (high - low + 1) / 8;
+        int a = medianOfThree(arr, low, low + step, low + 2 * step);
+        int b = medianOfThree(arr, mid - step, mid, mid + step);
+        int c = medianOfThree(arr, high - 2 * step, high - step, high);
+        return medianOfThree(arr, a, b, c);
+    }
+    
+    private static int medianOfThree(long[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            if (arr[b] < arr[c]) return b;
+            return arr[a] < arr[c] ? c : a;
+        }
+        if (arr[a] < arr[c]) return a;
+        return arr[b] < arr[c] ? c : b;
+    }
+    
+    private static int partition(long[] arr, int low, int high) {
+        long pivot = arr[high];
+        int i = low - 1;
+        int j = high;
+        
+        while (true) {
+            while (arr[++i] < pivot) {
+                // arr[high] == pivot stops this scan
+            }
+            while (pivot < arr[--j]) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(arr, i, j);
+        }
+        
+        swap(arr, i, high);
+        return i;
+    }
+    
+    private static void heapSort(long[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+    
+    private static void siftDown(long[] arr, int offset, int index, int size) {
+        long value = arr[offset + index];
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && arr[offset + child] < arr[offset + child + 1]) {
+                child++;
+            }
+            if (!(value < arr[offset + child])) break;
+            arr[offset + index] = arr[offset + child];
+            index = child;
+        }
+        arr[offset + index] = value;
+    }
+    
+    private static void swap(long[] arr, int i, int j) {
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    
+    private static void quickSortHelper(short[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > SMALL_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+            depthLimit--;
+            
+            swap(arr, choosePivot(arr, low, high), high);
+            int partitionIndex = partition(arr, low, high);
+            
+            if (partitionIndex - low < high - partitionIndex) {
+                quickSortHelper(arr, low, partitionIndex - 1, depthLimit);
+                low = partitionIndex + 1;
+            } else {
+                quickSortHelper(arr, partitionIndex + 1, high, depthLimit);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        InsertionSort.insertionSort(arr, low, high + 1);
+    }
+    
+    private static int choosePivot(short[] arr, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(arr, low, mid, high);
+        }
+        
+        int step = (high - low + 1) / 8;
+        int a = medianOfThree(arr, low, low + step, low + 2 * step);
+        int b = medianOfThree(arr, mid - step, mid, mid + step);
+        int c = medianOfThree(arr, high - 2 * step, high - step, high);
+        return medianOfThree(arr, a, b, c);
+    }
+    
+    private static int medianOfThree(short[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            if (arr[b] < arr[c]) return b;
+            return arr[a] < arr[c] ? c : a;
+        }
+        if (arr[a] < arr[c]) return a;
+        return arr[b] < arr[c] ? c : b;
+    }
+    
+    private static int partition(short[] arr, int low, int high) {
+        short pivot = arr[high];
+        int i = low - 1;
+        int j = high;
+        
+        while (true) {
+            while (arr[++i] < pivot) {
+                // arr[high] == pivot stops this scan
+            }
+            while (pivot < arr[--j]) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(arr, i, j);
+        }
+        
+        swap(arr, i, high);
+        return i;
+    }
+    
+    private static void heapSort(short[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+    
+    private static void siftDown(short[] arr, int offset, int index, int size) {
+        short value = arr[offset + index];
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && arr[offset + child] < arr[offset + child + 1]) {
+                child++;
+            }
+            if (!(value < arr[offset + child])) break;
+            arr[offset + index] = arr[offset + child];
+            index = child;
+        }
+        arr[offset + index] = value;
+    }
+    
+    private static void swap(short[] arr, int i, int j) {
+        short temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    
+    private static void quickSortHelper(char[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > SMALL_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+            depthLimit--;
+            
+            swap(arr, choosePivot(arr, low, high), high);
+            int partitionIndex = partition(arr, low, high);
+            
+            if (partitionIndex - low < high - partitionIndex) {
+                quickSortHelper(arr, low, partitionIndex - 1, depthLimit);
+                low = partitionIndex + 1;
+            } else {
+                quickSortHelper(arr, partitionIndex + 1, high, depthLimit);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        InsertionSort.insertionSort(arr, low, high + 1);
+    }
+    
+    private static int choosePivot(char[] arr, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(arr, low, mid, high);
+        }
+        
+        int step = (high - low + 1) / 8;
+        int a = medianOfThree(arr, low, low + step, low + 2 * step);
+        int b = medianOfThree(arr, mid - step, mid, mid + step);
+        int c = medianOfThree(arr, high - 2 * step, high - step, high);
+        return medianOfThree(arr, a, b, c);
+    }
+    
+    private static int medianOfThree(char[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            if (arr[b] < arr[c]) return b;
+            return arr[a] < arr[c] ? c : a;
+        }
+        if (arr[a] < arr[c]) return a;
+        return arr[b] < arr[c] ? c : b;
+    }
+    
+    private static int partition(char[] arr, int low, int high) {
+        char pivot = arr[high];
+        int i = low - 1;
+        int j = high;
+        
+        while (true) {
+            while (arr[++i] < pivot) {
+                // arr[high] == pivot stops this scan
+            }
+            while (pivot < arr[--j]) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(arr, i, j);
+        }
+        
+        swap(arr, i, high);
+        return i;
+    }
+    
+    private static void heapSort(char[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+    
+    private static void siftDown(char[] arr, int offset, int index, int size) {
+        char value = arr[offset + index];
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && arr[offset + child] < arr[offset + child + 1]) {
+                child++;
+            }
+            if (!(value < arr[offset + child])) break;
+            arr[offset + index] = arr[offset + child];
+            index = child;
+        }
+        arr[offset + index] = value;
+    }
+    
+    private static void swap(char[] arr, int i, int j) {
+        char temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    
+    private static void quickSortHelper(float[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > SMALL_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+            depthLimit--;
+            
+            swap(arr, choosePivot(arr, low, high), high);
+            int partitionIndex = partition(arr, low, high);
+            
+            if (partitionIndex - low < high - partitionIndex) {
+                quickSortHelper(arr, low, partitionIndex - 1, depthLimit);
+                low = partitionIndex + 1;
+            } else {
+                quickSortHelper(arr, partitionIndex + 1, high, depthLimit);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        InsertionSort.insertionSort(arr, low, high + 1);
+    }
+    
+    private static int choosePivot(float[] arr, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(arr, low, mid, high);
+        }
+        
+        int step = (high - low + 1) / 8;
+        int a = medianOfThree(arr, low, low + step, low + 2 * step);
+        int b = medianOfThree(arr, mid - step, mid, mid + step);
+        int c = medianOfThree(arr, high - 2 * step, high - step, high);
+        return medianOfThree(arr, a, b, c);
+    }
+    
+    private static int medianOfThree(float[] arr, int a, int b, int c) {
+        if (Float.compare(arr[a], arr[b]) < 0) {
+            if (Float.compare(arr[b], arr[c]) < 0) return b;
+            return Float.compare(arr[a], arr[c]) < 0 ? c : a;
+        }
+        if (Float.compare(arr[a], arr[c]) < 0) return a;
+        return Float.compare(arr[b], arr[c]) < 0 ? c : b;
+    }
+    
+    private static int partition(float[] arr, int low, int high) {
+        float pivot = arr[high];
+        int i = low - 1;
+        int j = high;
+        
+        while (true) {
+            while (Float.compare(arr[++i], pivot) < 0) {
+                // arr[high] == pivot stops this scan
+            }
+            while (Float.compare(pivot, arr[--j]) < 0) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(arr, i, j);
+        }
+        
+        swap(arr, i, high);
+        return i;
+    }
+    
+    private static void heapSort(float[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+    
+    private static void siftDown(float[] arr, int offset, int index, int size) {
+        float value = arr[offset + index];
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && Float.compare(arr[offset + child], arr[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (!(Float.compare(value, arr[offset + child]) < 0)) break;
+            arr[offset + index] = arr[offset + child];
+            index = child;
+        }
+        arr[offset + index] = value;
+    }
+    
+    private static void swap(float[] arr, int i, int j) {
+        float temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    
+    private static void quickSortHelper(double[] arr, int low, int high, int depthLimit) {
+        while (high - low + 1 > SMALL_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+            depthLimit--;
+            
+            swap(arr, choosePivot(arr, low, high), high);
+            int partitionIndex = partition(arr, low, high);
+            
+            if (partitionIndex - low < high - partitionIndex) {
+                quickSortHelper(arr, low, partitionIndex - 1, depthLimit);
+                low = partitionIndex + 1;
+            } else {
+                quickSortHelper(arr, partitionIndex + 1, high, depthLimit);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        InsertionSort.insertionSort(arr, low, high + 1);
+    }
+    
+    private static int choosePivot(double[] arr, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(arr, low, mid, high);
+        }
+        
+        int step = (high - low + 1) / 8;
+        int a = medianOfThree(arr, low, low + step, low + 2 * step);
+        int b = medianOfThree(arr, mid - step, mid, mid + step);
+        int c = medianOfThree(arr, high - 2 * step, high - step, high);
+        return medianOfThree(arr, a, b, c);
+    }
+    
+    private static int medianOfThree(double[] arr, int a, int b, int c) {
+        if (Double.compare(arr[a], arr[b]) < 0) {
+            if (Double.compare(arr[b], arr[c]) < 0) return b;
+            return Double.compare(arr[a], arr[c]) < 0 ? c : a;
+        }
+        if (Double.compare(arr[a], arr[c]) < 0) return a;
+        return Double.compare(arr[b], arr[c]) < 0 ? c : b;
+    }
+    
+    private static int partition(double[] arr, int low, int high) {
+        double pivot = arr[high];
+        int i = low - 1;
+        int j = high;
+        
+        while (true) {
+            while (Double.compare(arr[++i], pivot) < 0) {
+                // arr[high] == pivot stops this scan
+            }
+            while (Double.compare(pivot, arr[--j]) < 0) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(arr, i, j);
+        }
+        
+        swap(arr, i, high);
+        return i;
+    }
+    
+    private static void heapSort(double[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+    
+    private static void siftDown(double[] arr, int offset, int index, int size) {
+        double value = arr[offset + index];
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && Double.compare(arr[offset + child], arr[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (!(Double.compare(value, arr[offset + child]) < 0)) break;
+            arr[offset + index] = arr[offset + child];
+            index = child;
+        }
+        arr[offset + index] = value;
+    }
+    
+    private static void swap(double[] arr, int i, int j) {
+        double temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    
+    private static <T> void quickSortHelper(T[] arr, int low, int high, int depthLimit,
+                                            Comparator<? super T> c) {
+        while (high - low + 1 > SMALL_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(arr, low, high, c);
+                return;
+            }
+            depthLimit--;
+            
+            swap(arr, choosePivot(arr, low, high, c), high);
+            int partitionIndex = partition(arr, low, high, c);
+            
+            if (partitionIndex - low < high - partitionIndex) {
+                quickSortHelper(arr, low, partitionIndex - 1, depthLimit, c);
+                low = partitionIndex + 1;
+            } else {
+                quickSortHelper(arr, partitionIndex + 1, high, depthLimit, c);
+                high = partitionIndex - 1;
+            }
+        }
+        
+        insertionSort(arr, low, high, c);
+    }
+    
+    private static <T> int choosePivot(T[] arr, int low, int high, Comparator<? super T> c) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(arr, low, mid, high, c);
+        }
+        
+        int step = (high - low + 1) / 8;
+        int a = medianOfThree(arr, low, low + step, low + 2 * step, c);
+        int b = medianOfThree(arr, mid - step, mid, mid + step, c);
+        int d = medianOfThree(arr, high - 2 * step, high - step, high, c);
+        return medianOfThree(arr, a, b, d, c);
+    }
+    
+    private static <T> int medianOfThree(T[] arr, int a, int b, int d, Comparator<? super T> c) {
+        if (c.compare(arr[a], arr[b]) < 0) {
+            if (c.compare(arr[b], arr[d]) < 0) return b;
+            return c.compare(arr[a], arr[d]) < 0 ? d : a;
+        }
+        if (c.compare(arr[a], arr[d]) < 0) return a;
+        return c.compare(arr[b], arr[d]) < 0 ? d : b;
+    }
+    
+    private static <T> int partition(T[] arr, int low, int high, Comparator<? super T> c) {
+        T pivot = arr[high];
+        int i = low - 1;
+        int j = high;
+        
+        while (true) {
+            while (c.compare(arr[++i], pivot) < 0) {
+                // arr[high] == pivot stops this scan
+            }
+            while (c.compare(pivot, arr[--j]) < 0) {
+                if (j == low) break;
+            }
+            if (i >= j) break;
+            swap(arr, i, j);
+        }
+        
+        swap(arr, i, high);
+        return i;
+    }
+    
+    private static <T> void insertionSort(T[] arr, int low, int high, Comparator<? super T> c) {
+        for (int i = low + 1; i <= high; i++) {
+            T key = arr[i];
+            int j = i - 1;
+            
+            while (j >= low && c.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    private static <T> void heapSort(T[] arr, int low, int high, Comparator<? super T> c) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n, c);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end, c);
+        }
+    }
+    
+    private static <T> void siftDown(T[] arr, int offset, int index, int size, Comparator<? super T> c) {
+        T value = arr[offset + index];
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && c.compare(arr[offset + child + 1], arr[offset + child]) > 0) {
+                child++;
+            }
+            if (c.compare(value, arr[offset + child]) >= 0) break;
+            arr[offset + index] = arr[offset + child];
+            index = child;
+        }
+        arr[offset + index] = value;
+    }
+    
+    private static <T> void swap(T[] arr, int i, int j) {
+        T temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
 }
\ No newline at end of file
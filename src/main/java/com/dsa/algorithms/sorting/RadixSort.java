@@ -0,0 +1,154 @@
+package com.dsa.algorithms.sorting;
+
+/**
+ * Radix Sort Implementation (LSD, one byte per pass)
+ * 
+ * Time Complexity: O(w * n) where w is the key width in bytes (4 for int, 8 for long)
+ * Space Complexity: O(n) for the scratch buffer plus O(w * 256) for the digit counts
+ * 
+ * Least-significant-digit Radix Sort is not comparison based. It distributes the keys
+ * by their lowest byte, then by the next byte, and so on. Each pass is a stable counting
+ * sort, so after the last pass the keys are fully ordered.
+ * 
+ * - the counts for every byte are gathered in a single read of the input
+ * - a pass is skipped entirely when every key has the same value in that byte
+ *   (for example the upper bytes of small non-negative keys)
+ * - the sign bit of the top byte is flipped when it is used as a digit, so
+ *   negative numbers sort before positive ones
+ * - passes alternate between the array and the scratch buffer, which can be supplied
+ *   by the caller to avoid allocating one per sort
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "RadixSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.RadixSortTest"
+ * ./gradlew test --tests "*RadixSort*"
+ */
+public class RadixSort {
+    
+    private static final int RADIX = 256;
+    
+    /**
+     * Sorts an array of ints using LSD radix sort
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void radixSort(int[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        radixSort(arr, new int[arr.length]);
+    }
+    
+    /**
+     * Sorts an array of ints using LSD radix sort with a caller-supplied scratch buffer
+     * @param arr the array to be sorted (modified in-place)
+     * @param buffer scratch space of at least arr.length elements; its contents are overwritten
+     * @throws IllegalArgumentException if buffer is null or shorter than arr
+     */
+    public static void radixSort(int[] arr, int[] buffer) {
+        if (arr == null || arr.length <= 1) return;
+        if (buffer == null || buffer.length < arr.length) {
+            throw new IllegalArgumentException("Buffer must hold at least " + arr.length + " elements");
+        }
+        
+        int n = arr.length;
+        int[] counts = new int[Integer.BYTES * RADIX];
+        for (int value : arr) {
+            for (int pass = 0; pass < Integer.BYTES; pass++) {
+                counts[pass * RADIX + digit(value, pass)]++;
+            }
+        }
+        
+        int[] src = arr;
+        int[] dest = buffer;
+        for (int pass = 0; pass < Integer.BYTES; pass++) {
+            int offset = pass * RADIX;
+            if (counts[offset + digit(src[0], pass)] == n) continue; // constant byte column
+            
+            toStartPositions(counts, offset);
+            for (int i = 0; i < n; i++) {
+                int value = src[i];
+                dest[counts[offset + digit(value, pass)]++] = value;
+            }
+            
+            int[] temp = src;
+            src = dest;
+            dest = temp;
+        }
+        
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+    
+    /**
+     * Sorts an array of longs using LSD radix sort
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void radixSort(long[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        radixSort(arr, new long[arr.length]);
+    }
+    
+    /**
+     * Sorts an array of longs using LSD radix sort with a caller-supplied scratch buffer
+     * @param arr the array to be sorted (modified in-place)
+     * @param buffer scratch space of at least arr.length elements; its contents are overwritten
+     * @throws IllegalArgumentException if buffer is null or shorter than arr
+     */
+    public static void radixSort(long[] arr, long[] buffer) {
+        if (arr == null || arr.length <= 1) return;
+        if (buffer == null || buffer.length < arr.length) {
+            throw new IllegalArgumentException("Buffer must hold at least " + arr.length + " elements");
+        }
+        
+        int n = arr.length;
+        int[] counts = new int[Long.BYTES * RADIX];
+        for (long value : arr) {
+            for (int pass = 0; pass < Long.BYTES; pass++) {
+                counts[pass * RADIX + digit(value, pass)]++;
+            }
+        }
+        
+        long[] src = arr;
+        long[] dest = buffer;
+        for (int pass = 0; pass < Long.BYTES; pass++) {
+            int offset = pass * RADIX;
+            if (counts[offset + digit(src[0], pass)] == n) continue; // constant byte column
+            
+            toStartPositions(counts, offset);
+            for (int i = 0; i < n; i++) {
+                long value = src[i];
+                dest[counts[offset + digit(value, pass)]++] = value;
+            }
+            
+            long[] temp = src;
+            src = dest;
+            dest = temp;
+        }
+        
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+    
+    /** Byte number pass of value (0 = lowest), with the sign bit flipped on the top byte */
+    private static int digit(int value, int pass) {
+        int b = (value >>> (pass * 8)) & 0xFF;
+        return pass == Integer.BYTES - 1 ? b ^ 0x80 : b;
+    }
+    
+    private static int digit(long value, int pass) {
+        int b = (int) (value >>> (pass * 8)) & 0xFF;
+        return pass == Long.BYTES - 1 ? b ^ 0x80 : b;
+    }
+    
+    /** Turns the counts for one pass into the starting index of each digit's bucket */
+    private static void toStartPositions(int[] counts, int offset) {
+        int sum = 0;
+        for (int d = offset; d < offset + RADIX; d++) {
+            int count = counts[d];
+            counts[d] = sum;
+            sum += count;
+        }
+    }
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.dsa.algorithms.sorting;
 
+import java.util.Objects;
+
 /**
  * Selection Sort Implementation
  * 
@@ -23,10 +25,23 @@ public class SelectionSort {
     public static void selectionSort(int[] arr) {
         if (arr == null || arr.length <= 1) return;
         
-        int n = arr.length;
-        for (int i = 0; i < n - 1; i++) {
+        selectionSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the selection sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void selectionSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        for (int i = fromIndex; i < toIndex - 1; i++) {
             int minIndex = i;
-            for (int j = i + 1; j < n; j++) {
+            for (int j = i + 1; j < toIndex; j++) {
                 if (arr[j] < arr[minIndex]) {
                     minIndex = j;
                 }
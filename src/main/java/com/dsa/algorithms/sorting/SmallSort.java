@@ -0,0 +1,190 @@
+package com.dsa.algorithms.sorting;
+
+/**
+ * Small-Array Sorting Kernels
+ * 
+ * Time Complexity: O(n²) for the insertion kernels, fixed O(1) work per size for the networks
+ * Space Complexity: O(1) - in-place sorting
+ * 
+ * Tiny ranges are where the larger divide-and-conquer sorts spend their leaves, so this
+ * class collects the kernels that are fastest there and picks one by length:
+ * 
+ * - 16 elements or fewer: a fixed sorting network. The sequence of compare-exchange
+ *   steps does not depend on the data, and each step is written with min/max so the
+ *   JIT can emit conditional moves instead of branches that mispredict on random data
+ * - larger: plain insertion sort
+ * 
+ * Binary insertion sort is also provided. It finds each insertion point in O(log n)
+ * comparisons and shifts with a single arraycopy, but for int keys the unpredictable
+ * branches of the binary search make it roughly twice as slow as the linear scan at
+ * 8 to 64 elements, so the selector does not use it. It pays off when comparisons are
+ * expensive.
+ * 
+ * The networks are Batcher odd-even merge networks for 16 inputs, restricted to the
+ * first n wires with redundant comparators removed.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "SmallSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.SmallSortTest"
+ * ./gradlew test --tests "*SmallSort*"
+ */
+public class SmallSort {
+    
+    /** Largest range that is sorted with a sorting network */
+    public static final int MAX_NETWORK_SIZE = 16;
+    
+    /** NETWORKS[n] holds the compare-exchange index pairs for n elements, flattened */
+    private static final int[][] NETWORKS = {
+        null,
+        null,
+        {0,1},
+        {0,1, 0,2, 1,2},
+        {0,1, 2,3, 0,2, 1,3, 1,2},
+        {0,1, 2,3, 0,2, 1,3, 1,2, 0,4, 2,4, 1,2,
+         3,4},
+        {0,1, 2,3, 4,5, 0,2, 1,3, 1,2, 0,4, 1,5,
+         2,4, 3,5, 1,2, 3,4},
+        {0,1, 2,3, 4,5, 0,2, 1,3, 4,6, 1,2, 5,6,
+         0,4, 1,5, 2,6, 2,4, 3,5, 1,2, 3,4, 5,6},
+        {0,1, 2,3, 4,5, 6,7, 0,2, 1,3, 4,6, 5,7,
+         1,2, 5,6, 0,4, 1,5, 2,6, 3,7, 2,4, 3,5,
+         1,2, 3,4, 5,6},
+        {0,1, 2,3, 4,5, 6,7, 0,2, 1,3, 4,6, 5,7,
+         1,2, 5,6, 0,4, 1,5, 2,6, 3,7, 2,4, 3,5,
+         1,2, 3,4, 5,6, 0,8, 4,8, 2,4, 6,8, 1,2,
+         3,4, 5,6, 7,8},
+        {0,1, 2,3, 4,5, 6,7, 8,9, 0,2, 1,3, 4,6,
+         5,7, 1,2, 5,6, 0,4, 1,5, 2,6, 3,7, 2,4,
+         3,5, 1,2, 3,4, 5,6, 0,8, 1,9, 4,8, 5,9,
+         2,4, 3,5, 6,8, 7,9, 1,2, 3,4, 5,6, 7,8},
+        {0,1, 2,3, 4,5, 6,7, 8,9, 0,2, 1,3, 4,6,
+         5,7, 8,10, 1,2, 5,6, 9,10, 0,4, 1,5, 2,6,
+         3,7, 2,4, 3,5, 1,2, 3,4, 5,6, 0,8, 1,9,
+         2,10, 4,8, 5,9, 6,10, 2,4, 3,5, 6,8, 7,9,
+         1,2, 3,4, 5,6, 7,8, 9,10},
+        {0,1, 2,3, 4,5, 6,7, 8,9, 10,11, 0,2, 1,3,
+         4,6, 5,7, 8,10, 9,11, 1,2, 5,6, 9,10, 0,4,
+         1,5, 2,6, 3,7, 2,4, 3,5, 1,2, 3,4, 5,6,
+         0,8, 1,9, 2,10, 3,11, 4,8, 5,9, 6,10, 7,11,
+         2,4, 3,5, 6,8, 7,9, 1,2, 3,4, 5,6, 7,8,
+         9,10},
+        {0,1, 2,3, 4,5, 6,7, 8,9, 10,11, 0,2, 1,3,
+         4,6, 5,7, 8,10, 9,11, 1,2, 5,6, 9,10, 0,4,
+         1,5, 2,6, 3,7, 8,12, 2,4, 3,5, 10,12, 1,2,
+         3,4, 5,6, 9,10, 11,12, 0,8, 1,9, 2,10, 3,11,
+         4,12, 4,8, 5,9, 6,10, 7,11, 2,4, 3,5, 6,8,
+         7,9, 10,12, 1,2, 3,4, 5,6, 7,8, 9,10, 11,12},
+        {0,1, 2,3, 4,5, 6,7, 8,9, 10,11, 12,13, 0,2,
+         1,3, 4,6, 5,7, 8,10, 9,11, 1,2, 5,6, 9,10,
+         0,4, 1,5, 2,6, 3,7, 8,12, 9,13, 2,4, 3,5,
+         10,12, 11,13, 1,2, 3,4, 5,6, 9,10, 11,12, 0,8,
+         1,9, 2,10, 3,11, 4,12, 5,13, 4,8, 5,9, 6,10,
+         7,11, 2,4, 3,5, 6,8, 7,9, 10,12, 11,13, 1,2,
+         3,4, 5,6, 7,8, 9,10, 11,12},
+        {0,1, 2,3, 4,5, 6,7, 8,9, 10,11, 12,13, 0,2,
+         1,3, 4,6, 5,7, 8,10, 9,11, 12,14, 1,2, 5,6,
+         9,10, 13,14, 0,4, 1,5, 2,6, 3,7, 8,12, 9,13,
+         10,14, 2,4, 3,5, 10,12, 11,13, 1,2, 3,4, 5,6,
+         9,10, 11,12, 13,14, 0,8, 1,9, 2,10, 3,11, 4,12,
+         5,13, 6,14, 4,8, 5,9, 6,10, 7,11, 2,4, 3,5,
+         6,8, 7,9, 10,12, 11,13, 1,2, 3,4, 5,6, 7,8,
+         9,10, 11,12, 13,14},
+        {0,1, 2,3, 4,5, 6,7, 8,9, 10,11, 12,13, 14,15,
+         0,2, 1,3, 4,6, 5,7, 8,10, 9,11, 12,14, 13,15,
+         1,2, 5,6, 9,10, 13,14, 0,4, 1,5, 2,6, 3,7,
+         8,12, 9,13, 10,14, 11,15, 2,4, 3,5, 10,12, 11,13,
+         1,2, 3,4, 5,6, 9,10, 11,12, 13,14, 0,8, 1,9,
+         2,10, 3,11, 4,12, 5,13, 6,14, 7,15, 4,8, 5,9,
+         6,10, 7,11, 2,4, 3,5, 6,8, 7,9, 10,12, 11,13,
+         1,2, 3,4, 5,6, 7,8, 9,10, 11,12, 13,14}
+    };
+    
+    /**
+     * Sorts arr[fromIndex, toIndex) with the kernel best suited to its length
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     */
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+        if (length <= 1) return;
+        
+        if (length <= MAX_NETWORK_SIZE) {
+            networkSort(arr, fromIndex, toIndex);
+        } else {
+            insertionSort(arr, fromIndex, toIndex);
+        }
+    }
+    
+    /**
+     * Sorts arr[fromIndex, toIndex) with a fixed sorting network
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IllegalArgumentException if the range holds more than MAX_NETWORK_SIZE elements
+     */
+    public static void networkSort(int[] arr, int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+        if (length > MAX_NETWORK_SIZE) {
+            throw new IllegalArgumentException("Sorting networks handle at most "
+                + MAX_NETWORK_SIZE + " elements");
+        }
+        if (length <= 1) return;
+        
+        int[] network = NETWORKS[length];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = fromIndex + network[k];
+            int j = fromIndex + network[k + 1];
+            int a = arr[i];
+            int b = arr[j];
+            arr[i] = Math.min(a, b);
+            arr[j] = Math.max(a, b);
+        }
+    }
+    
+    /**
+     * Sorts arr[fromIndex, toIndex) with insertion sort, scanning linearly for each insertion point
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     */
+    public static void insertionSort(int[] arr, int fromIndex, int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            
+            while (j >= fromIndex && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    /**
+     * Sorts arr[fromIndex, toIndex) with insertion sort, binary searching each insertion point
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     */
+    public static void binaryInsertionSort(int[] arr, int fromIndex, int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            int key = arr[i];
+            if (arr[i - 1] <= key) continue; // already in place
+            
+            int left = fromIndex;
+            int right = i - 1;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (key < arr[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            
+            System.arraycopy(arr, left, arr, left + 1, i - left);
+            arr[left] = key;
+        }
+    }
+}
\ No newline at end of file
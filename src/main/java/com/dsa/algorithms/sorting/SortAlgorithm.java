@@ -0,0 +1,141 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The int[] sorting algorithms of this package, each usable as a Sorter
+ * 
+ * Each constant delegates to the static range method of its class, so choosing an
+ * algorithm at runtime costs one interface call. RADIX and PARALLEL_RADIX only have
+ * whole-array entry points, so a sub-range is copied out, sorted and copied back.
+ * 
+ * Stable: BUBBLE, INSERTION, MERGE, IN_PLACE_MERGE, TIM and RADIX (each LSD pass is a
+ * stable counting sort). The others may reorder equal elements.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "SortAlgorithmTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.SortAlgorithmTest"
+ * ./gradlew test --tests "*SortAlgorithm*"
+ */
+public enum SortAlgorithm implements Sorter {
+    
+    BUBBLE(true) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            BubbleSort.bubbleSort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    SELECTION(false) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            SelectionSort.selectionSort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    INSERTION(true) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            InsertionSort.insertionSort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    /** Sorting networks for up to 16 elements, insertion sort above that */
+    SMALL(false) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            if (arr == null) return;
+            Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+            
+            SmallSort.sort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    MERGE(true) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            MergeSort.mergeSort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    /** Stable like MERGE, but without the O(n) buffer */
+    IN_PLACE_MERGE(true) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            InPlaceMergeSort.inPlaceMergeSort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    TIM(true) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            TimSort.timSort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    QUICK(false) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            QuickSort.quickSort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    DUAL_PIVOT_QUICK(false) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            DualPivotQuickSort.dualPivotQuickSort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    /** Quick sort on SIMD registers, scalar QuickSort when the Vector API is unavailable */
+    VECTORIZED(false) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            VectorizedSort.sort(arr, fromIndex, toIndex);
+        }
+    },
+    
+    RADIX(true) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            if (arr == null) return;
+            Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+            
+            if (fromIndex == 0 && toIndex == arr.length) {
+                RadixSort.radixSort(arr);
+            } else {
+                int[] range = Arrays.copyOfRange(arr, fromIndex, toIndex);
+                RadixSort.radixSort(range);
+                System.arraycopy(range, 0, arr, fromIndex, range.length);
+            }
+        }
+    },
+    
+    PARALLEL_RADIX(false) {
+        @Override
+        public void sort(int[] arr, int fromIndex, int toIndex) {
+            if (arr == null) return;
+            Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+            
+            if (fromIndex == 0 && toIndex == arr.length) {
+                ParallelRadixSort.parallelRadixSort(arr);
+            } else {
+                int[] range = Arrays.copyOfRange(arr, fromIndex, toIndex);
+                ParallelRadixSort.parallelRadixSort(range);
+                System.arraycopy(range, 0, arr, fromIndex, range.length);
+            }
+        }
+    };
+    
+    private final boolean stable;
+    
+    SortAlgorithm(boolean stable) {
+        this.stable = stable;
+    }
+    
+    @Override
+    public boolean isStable() {
+        return stable;
+    }
+}
\ No newline at end of file
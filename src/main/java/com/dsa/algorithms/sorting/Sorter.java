@@ -0,0 +1,55 @@
+package com.dsa.algorithms.sorting;
+
+/**
+ * Common interface for the int[] sorting algorithms in this package
+ * 
+ * Every algorithm sorts a range arr[fromIndex, toIndex) in place. Callers can hold a
+ * Sorter instead of naming a specific static class, and swap implementations without
+ * touching the call site:
+ * - SortAlgorithm lists each algorithm in this package as a Sorter
+ * - AdaptiveSorter samples the input and picks the algorithm for each call
+ * 
+ * isStable() documents whether an implementation keeps equal elements in their original
+ * relative order. Equal ints cannot be told apart, so for int[] this describes the
+ * algorithm rather than a visible difference; it is the guarantee multi-key sorts rely
+ * on when they use the same algorithm on records (MergeSort and InPlaceMergeSort have
+ * Comparator overloads for that).
+ * 
+ * Implementations treat a null array as a no-op and throw IndexOutOfBoundsException
+ * for a range outside the array.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "SortAlgorithmTest"
+ * ./gradlew test --tests "AdaptiveSorterTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.*"
+ */
+public interface Sorter {
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) in ascending order
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    void sort(int[] arr, int fromIndex, int toIndex);
+    
+    /**
+     * Sorts the whole array in ascending order
+     * @param arr the array to be sorted (modified in-place)
+     */
+    default void sort(int[] arr) {
+        if (arr == null) return;
+        
+        sort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Returns whether this sorter keeps equal elements in their original relative order.
+     * The default is false, meaning stability is not promised.
+     * @return true if the sort is stable
+     */
+    default boolean isStable() {
+        return false;
+    }
+}
\ No newline at end of file
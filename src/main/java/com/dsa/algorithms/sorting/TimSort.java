@@ -0,0 +1,515 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Objects;
+
+/**
+ * Tim Sort Implementation (adaptive natural-run merge sort)
+ * 
+ * Time Complexity: O(n log n) worst case, O(n) when the input is made of a few sorted runs
+ * Space Complexity: O(n) worst case for the merge buffer, much less on presorted input
+ * 
+ * Tim Sort scans the array for runs that are already in order, reverses strictly
+ * descending runs in place, and merges the runs instead of blindly halving the array.
+ * 
+ * - runs shorter than minRun (between 16 and 32) are extended with binary insertion sort
+ * - runs are kept on a stack whose lengths grow at least like the Fibonacci numbers,
+ *   so merges stay balanced and the stack stays shallow
+ * - before each merge, elements already in their final place at either end are skipped
+ *   by galloping (exponential search)
+ * - while merging, once one run wins several times in a row the merge switches to
+ *   galloping mode and copies whole blocks at once
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "TimSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.TimSortTest"
+ * ./gradlew test --tests "*TimSort*"
+ */
+public class TimSort {
+    
+    /** Arrays shorter than this are sorted with a single binary insertion sort */
+    private static final int MIN_MERGE = 32;
+    
+    /** Consecutive wins by one run needed before the merge switches to galloping */
+    private static final int MIN_GALLOP = 7;
+    
+    /** Enough stack for any int-indexed array given the run length invariants */
+    private static final int MAX_STACK_SIZE = 49;
+    
+    private final int[] arr;
+    private final int maxTempLength;
+    private int[] temp;
+    private int minGallop = MIN_GALLOP;
+    
+    private final int[] runBase = new int[MAX_STACK_SIZE];
+    private final int[] runLength = new int[MAX_STACK_SIZE];
+    private int stackSize = 0;
+    
+    private TimSort(int[] arr, int rangeLength) {
+        this.arr = arr;
+        this.maxTempLength = rangeLength >>> 1;
+        this.temp = new int[Math.min(256, maxTempLength)];
+    }
+    
+    /**
+     * Sorts an array using the Tim Sort algorithm
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void timSort(int[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        timSort(arr, 0, arr.length);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex) using the Tim Sort algorithm
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void timSort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        int n = toIndex - fromIndex;
+        if (n <= 1) return;
+        if (n < MIN_MERGE) {
+            int initialRun = countRunAndMakeAscending(arr, fromIndex, toIndex);
+            binaryInsertionSort(arr, fromIndex, toIndex, fromIndex + initialRun);
+            return;
+        }
+        
+        new TimSort(arr, n).sort(fromIndex, toIndex);
+    }
+    
+    private void sort(int low, int high) {
+        int minRun = minRunLength(high - low);
+        int remaining = high - low;
+        
+        do {
+            int length = countRunAndMakeAscending(arr, low, high);
+            
+            if (length < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(arr, low, low + forced, low + length);
+                length = forced;
+            }
+            
+            pushRun(low, length);
+            mergeCollapse();
+            
+            low += length;
+            remaining -= length;
+        } while (remaining != 0);
+        
+        mergeForceCollapse();
+    }
+    
+    /**
+     * Returns the length of the run starting at low, reversing it first if it is
+     * strictly descending (strictly, so that equal elements are never reordered)
+     */
+    private static int countRunAndMakeAscending(int[] arr, int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) return 1;
+        
+        if (arr[runHigh++] < arr[low]) {
+            while (runHigh < high && arr[runHigh] < arr[runHigh - 1]) {
+                runHigh++;
+            }
+            reverseRange(arr, low, runHigh);
+        } else {
+            while (runHigh < high && arr[runHigh] >= arr[runHigh - 1]) {
+                runHigh++;
+            }
+        }
+        
+        return runHigh - low;
+    }
+    
+    private static void reverseRange(int[] arr, int low, int high) {
+        high--;
+        while (low < high) {
+            int temp = arr[low];
+            arr[low++] = arr[high];
+            arr[high--] = temp;
+        }
+    }
+    
+    /**
+     * Sorts arr[low, high) given that arr[low, start) is already sorted, finding each
+     * insertion point with a binary search
+     */
+    private static void binaryInsertionSort(int[] arr, int low, int high, int start) {
+        if (start == low) start++;
+        
+        for (; start < high; start++) {
+            int pivot = arr[start];
+            int left = low;
+            int right = start;
+            
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (pivot < arr[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            
+            System.arraycopy(arr, left, arr, left + 1, start - left);
+            arr[left] = pivot;
+        }
+    }
+    
+    /**
+     * Picks a run length in [MIN_MERGE / 2, MIN_MERGE] such that n / minRun is
+     * equal to, or slightly less than, a power of two
+     */
+    private static int minRunLength(int n) {
+        int lowBits = 0;
+        while (n >= MIN_MERGE) {
+            lowBits |= (n & 1);
+            n >>= 1;
+        }
+        return n + lowBits;
+    }
+    
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLength[stackSize] = length;
+        stackSize++;
+    }
+    
+    /**
+     * Merges runs until, for the top runs X, Y, Z (Z on top):
+     * X > Y + Z and Y > Z
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                    || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                if (runLength[n - 1] < runLength[n + 1]) n--;
+            } else if (runLength[n] > runLength[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+    
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] < runLength[n + 1]) n--;
+            mergeAt(n);
+        }
+    }
+    
+    /**
+     * Merges the runs at stack positions i and i + 1
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+        
+        runLength[i] = length1 + length2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        stackSize--;
+        
+        // Elements of run 1 that are <= the first element of run 2 are already in place
+        int k = gallopRight(arr[base2], arr, base1, length1, 0);
+        base1 += k;
+        length1 -= k;
+        if (length1 == 0) return;
+        
+        // Elements of run 2 that are >= the last element of run 1 are already in place
+        length2 = gallopLeft(arr[base1 + length1 - 1], arr, base2, length2, length2 - 1);
+        if (length2 == 0) return;
+        
+        if (length1 <= length2) {
+            mergeLow(base1, length1, base2, length2);
+        } else {
+            mergeHigh(base1, length1, base2, length2);
+        }
+    }
+    
+    /**
+     * Finds the leftmost position in a[base, base + length) at which key could be
+     * inserted, starting an exponential search at base + hint
+     */
+    private static int gallopLeft(int key, int[] a, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        
+        if (key > a[base + hint]) {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && key > a[base + hint + offset]) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+            
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && key <= a[base + hint - offset]) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+            
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+        
+        // a[base + lastOffset] < key <= a[base + offset]; binary search in between
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (key > a[base + mid]) {
+                lastOffset = mid + 1;
+            } else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+    
+    /**
+     * Like gallopLeft, but finds the rightmost insertion position for key
+     */
+    private static int gallopRight(int key, int[] a, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        
+        if (key < a[base + hint]) {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && key < a[base + hint - offset]) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+            
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        } else {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && key >= a[base + hint + offset]) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+            
+            lastOffset += hint;
+            offset += hint;
+        }
+        
+        // a[base + lastOffset] <= key < a[base + offset]; binary search in between
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (key < a[base + mid]) {
+                offset = mid;
+            } else {
+                lastOffset = mid + 1;
+            }
+        }
+        return offset;
+    }
+    
+    /**
+     * Merges two adjacent runs left to right, copying the shorter first run into temp.
+     * Requires arr[base1] > arr[base2] and the last element of run 1 to be greater
+     * than every element of run 2, which mergeAt guarantees.
+     */
+    private void mergeLow(int base1, int length1, int base2, int length2) {
+        int[] a = arr;
+        int[] tmp = ensureCapacity(length1);
+        System.arraycopy(a, base1, tmp, 0, length1);
+        
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+        
+        a[dest++] = a[cursor2++];
+        if (--length2 == 0) {
+            System.arraycopy(tmp, cursor1, a, dest, length1);
+            return;
+        }
+        if (length1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, length2);
+            a[dest + length2] = tmp[cursor1];
+            return;
+        }
+        
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0; // times in a row run 1 won
+            int count2 = 0; // times in a row run 2 won
+            
+            // One element at a time until one run starts winning consistently
+            do {
+                if (a[cursor2] < tmp[cursor1]) {
+                    a[dest++] = a[cursor2++];
+                    count2++;
+                    count1 = 0;
+                    if (--length2 == 0) break outer;
+                } else {
+                    a[dest++] = tmp[cursor1++];
+                    count1++;
+                    count2 = 0;
+                    if (--length1 == 1) break outer;
+                }
+            } while ((count1 | count2) < minGallop);
+            
+            // Galloping: copy whole blocks until neither run wins by much
+            do {
+                count1 = gallopRight(a[cursor2], tmp, cursor1, length1, 0);
+                if (count1 != 0) {
+                    System.arraycopy(tmp, cursor1, a, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    length1 -= count1;
+                    if (length1 <= 1) break outer;
+                }
+                a[dest++] = a[cursor2++];
+                if (--length2 == 0) break outer;
+                
+                count2 = gallopLeft(tmp[cursor1], a, cursor2, length2, 0);
+                if (count2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    length2 -= count2;
+                    if (length2 == 0) break outer;
+                }
+                a[dest++] = tmp[cursor1++];
+                if (--length1 == 1) break outer;
+                
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+            
+            if (minGallop < 0) minGallop = 0;
+            minGallop += 2; // penalise leaving gallop mode
+        }
+        this.minGallop = Math.max(minGallop, 1);
+        
+        if (length1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, length2);
+            a[dest + length2] = tmp[cursor1];
+        } else {
+            System.arraycopy(tmp, cursor1, a, dest, length1);
+        }
+    }
+    
+    /**
+     * Mirror image of mergeLow: merges right to left, copying the shorter second run into temp
+     */
+    private void mergeHigh(int base1, int length1, int base2, int length2) {
+        int[] a = arr;
+        int[] tmp = ensureCapacity(length2);
+        System.arraycopy(a, base2, tmp, 0, length2);
+        
+        int cursor1 = base1 + length1 - 1;
+        int cursor2 = length2 - 1;
+        int dest = base2 + length2 - 1;
+        
+        a[dest--] = a[cursor1--];
+        if (--length1 == 0) {
+            System.arraycopy(tmp, 0, a, dest - (length2 - 1), length2);
+            return;
+        }
+        if (length2 == 1) {
+            dest -= length1;
+            cursor1 -= length1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+            a[dest] = tmp[cursor2];
+            return;
+        }
+        
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+            
+            do {
+                if (tmp[cursor2] < a[cursor1]) {
+                    a[dest--] = a[cursor1--];
+                    count1++;
+                    count2 = 0;
+                    if (--length1 == 0) break outer;
+                } else {
+                    a[dest--] = tmp[cursor2--];
+                    count2++;
+                    count1 = 0;
+                    if (--length2 == 1) break outer;
+                }
+            } while ((count1 | count2) < minGallop);
+            
+            do {
+                count1 = length1 - gallopRight(tmp[cursor2], a, base1, length1, length1 - 1);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    length1 -= count1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                    if (length1 == 0) break outer;
+                }
+                a[dest--] = tmp[cursor2--];
+                if (--length2 == 1) break outer;
+                
+                count2 = length2 - gallopLeft(a[cursor1], tmp, 0, length2, length2 - 1);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    length2 -= count2;
+                    System.arraycopy(tmp, cursor2 + 1, a, dest + 1, count2);
+                    if (length2 <= 1) break outer;
+                }
+                a[dest--] = a[cursor1--];
+                if (--length1 == 0) break outer;
+                
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+            
+            if (minGallop < 0) minGallop = 0;
+            minGallop += 2;
+        }
+        this.minGallop = Math.max(minGallop, 1);
+        
+        if (length2 == 1) {
+            dest -= length1;
+            cursor1 -= length1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+            a[dest] = tmp[cursor2];
+        } else {
+            System.arraycopy(tmp, 0, a, dest - (length2 - 1), length2);
+        }
+    }
+    
+    private int[] ensureCapacity(int minCapacity) {
+        if (temp.length < minCapacity) {
+            int newSize = Integer.highestOneBit(minCapacity) << 1;
+            if (newSize < 0 || newSize > maxTempLength) {
+                newSize = Math.max(minCapacity, maxTempLength);
+            }
+            temp = new int[newSize];
+        }
+        return temp;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.dsa.algorithms.sorting;
+
+import java.util.Objects;
+
+/**
+ * Vectorized Sort Implementation (SIMD quick sort with scalar fallback)
+ * 
+ * Time Complexity: O(n log n) average and worst case
+ * Space Complexity: O(n) scratch for the vector partition, O(log n) stack
+ * 
+ * A quick sort whose inner loops run on SIMD registers through the JDK Vector API
+ * (jdk.incubator.vector). The vector code lives in its own source set, src/vector/java,
+ * which is compiled for Java 17 while the rest of the project stays on Java 11. This
+ * class only sees it through the Kernel interface and loads it by name:
+ * - partitioning compares a whole vector of elements against the pivot at once and
+ *   packs the smaller lanes to the front with a lane shuffle, so there is no
+ *   data-dependent branch per element
+ * - blocks of up to 32 elements are sorted by rank: each element's final position is
+ *   the number of elements smaller than it, counted one vector at a time
+ * 
+ * If the kernel classes are missing, or the JVM was started without
+ * --add-modules jdk.incubator.vector, loading fails with a LinkageError and every call
+ * falls back to the scalar QuickSort. isVectorized() reports which path is in use.
+ * Vector API code is only fast once the JIT has compiled it; the first few calls in a
+ * fresh JVM run far slower than the scalar sort.
+ * 
+ * The quick sort around the kernel keeps QuickSort's safeguards: a ninther pivot and a
+ * depth limit after which the range is finished with QuickSort's heap sort. When a
+ * pivot has nothing smaller than it, a second partition splits off the run of elements
+ * equal to the pivot, so duplicate-heavy input still shrinks every step.
+ * 
+ * Test this implementation:
+ * ./gradlew test --tests "VectorizedSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.VectorizedSortTest"
+ * ./gradlew test --tests "*VectorizedSort*"
+ */
+public class VectorizedSort {
+    
+    /** Name of the kernel class in the vector source set */
+    private static final String KERNEL_CLASS = "com.dsa.algorithms.sorting.VectorSortKernel";
+    
+    /** Ranges at or below this size are sorted by the kernel's small-block sort */
+    static final int SMALL_BLOCK_SIZE = 32;
+    
+    /** The loaded SIMD kernel, or null when the Vector API is unavailable */
+    private static final Kernel KERNEL = loadKernel();
+    
+    /**
+     * The operations implemented with the Vector API
+     */
+    interface Kernel {
+        
+        /**
+         * Reorders arr[fromIndex, toIndex) so that the elements below the pivot (or at or
+         * below it when inclusive is true) come first, and returns the index of the first
+         * element of the second part
+         * @param scratch space for at least toIndex - fromIndex + maxLanes() elements
+         */
+        int partition(int[] arr, int fromIndex, int toIndex, int pivot, boolean inclusive, int[] scratch);
+        
+        /**
+         * Sorts arr[fromIndex, toIndex), at most SMALL_BLOCK_SIZE elements
+         * @param scratch space for at least SMALL_BLOCK_SIZE elements
+         */
+        void sortSmall(int[] arr, int fromIndex, int toIndex, int[] scratch);
+        
+        /** The widest vector, in int lanes, that a kernel method may write past its range in scratch */
+        int maxLanes();
+    }
+    
+    /**
+     * Sorts an array, using SIMD instructions when the Vector API is available
+     * @param arr the array to be sorted (modified in-place)
+     */
+    public static void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) return;
+        
+        sort(arr, 0, arr.length, KERNEL);
+    }
+    
+    /**
+     * Sorts the range arr[fromIndex, toIndex), using SIMD instructions when the Vector API is available
+     * @param arr the array containing the range to be sorted (modified in-place)
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        if (arr == null) return;
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        
+        sort(arr, fromIndex, toIndex, KERNEL);
+    }
+    
+    /**
+     * Returns whether the SIMD kernel was loaded, or every sort falls back to scalar code
+     * @return true if sorts run on the Vector API
+     */
+    public static boolean isVectorized() {
+        return KERNEL != null;
+    }
+    
+    /**
+     * Sorts arr[fromIndex, toIndex) with the given kernel, or with QuickSort when it is null
+     */
+    static void sort(int[] arr, int fromIndex, int toIndex, Kernel kernel) {
+        int length = toIndex - fromIndex;
+        if (length <= 1) return;
+        if (kernel == null) {
+            QuickSort.quickSort(arr, fromIndex, toIndex);
+            return;
+        }
+        
+        int[] scratch = new int[Math.max(length, SMALL_BLOCK_SIZE) + kernel.maxLanes()];
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(length));
+        sortHelper(arr, fromIndex, toIndex, depthLimit, kernel, scratch);
+    }
+    
+    private static void sortHelper(int[] arr, int low, int high, int depthLimit,
+                                   Kernel kernel, int[] scratch) {
+        while (high - low > SMALL_BLOCK_SIZE) {
+            if (depthLimit == 0) {
+                QuickSort.heapSort(arr, low, high - 1);
+                return;
+            }
+            depthLimit--;
+            
+            int pivot = arr[QuickSort.choosePivot(arr, low, high - 1)];
+            int split = kernel.partition(arr, low, high, pivot, false, scratch);
+            
+            if (split == low) {
+                // Nothing is below the pivot: peel off the run equal to it, which is already in place
+                low = kernel.partition(arr, low, high, pivot, true, scratch);
+                continue;
+            }
+            
+            // Recurse into the smaller side, loop on the larger one
+            if (split - low < high - split) {
+                sortHelper(arr, low, split, depthLimit, kernel, scratch);
+                low = split;
+            } else {
+                sortHelper(arr, split, high, depthLimit, kernel, scratch);
+                high = split;
+            }
+        }
+        
+        kernel.sortSmall(arr, low, high, scratch);
+    }
+    
+    private static Kernel loadKernel() {
+        try {
+            return Class.forName(KERNEL_CLASS)
+                .asSubclass(Kernel.class)
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Kernel not compiled in, or jdk.incubator.vector not resolved at startup
+            return null;
+        }
+    }
+}
\ No newline at end of file
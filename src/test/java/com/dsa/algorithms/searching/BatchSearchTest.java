@@ -0,0 +1,165 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Batch Search algorithm
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "BatchSearchTest"
+ * ./gradlew test --tests "com.dsa.algorithms.searching.BatchSearchTest"
+ * ./gradlew test --tests "*BatchSearch*"
+ */
+class BatchSearchTest {
+    
+    @Test
+    void testSearchAll_MixedKeys_ReturnsIndexOrMinusOne() {
+        int[] sorted = {1, 3, 5, 7, 9, 11};
+        int[] keys = {5, 4, 1, 12, 11, 0};
+        int[] out = new int[keys.length];
+        BatchSearch.searchAll(sorted, keys, out);
+        assertArrayEquals(new int[]{2, -1, 0, -1, 5, -1}, out);
+    }
+    
+    @Test
+    void testSearchAll_Duplicates_ReturnsFirstOccurrence() {
+        int[] sorted = {1, 2, 2, 2, 3};
+        int[] out = new int[2];
+        BatchSearch.searchAll(sorted, new int[]{2, 3}, out);
+        assertArrayEquals(new int[]{1, 4}, out);
+    }
+    
+    @Test
+    void testSearchAll_EmptyOrNullArray_ReturnsMinusOne() {
+        int[] out = new int[2];
+        BatchSearch.searchAll(new int[0], new int[]{1, 2}, out);
+        assertArrayEquals(new int[]{-1, -1}, out);
+        BatchSearch.searchAll(null, new int[]{1, 2}, out);
+        assertArrayEquals(new int[]{-1, -1}, out);
+    }
+    
+    @Test
+    void testLowerBoundAll_EveryGroupRemainder_MatchesLowerBound() {
+        Random random = new Random(3);
+        for (int n = 1; n <= 40; n++) {
+            int[] sorted = random.ints(n, 0, 50).sorted().toArray();
+            for (int m = 0; m <= 40; m++) {
+                int[] keys = random.ints(m, -5, 55).toArray();
+                int[] out = new int[m];
+                BatchSearch.lowerBoundAll(sorted, keys, out);
+                for (int i = 0; i < m; i++) {
+                    assertEquals(BinarySearch.lowerBound(sorted, keys[i]), out[i], "n=" + n + " m=" + m);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void testLowerBoundAll_ExtremeValues_HandlesOverflow() {
+        int[] sorted = {Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+        int[] keys = new int[20];
+        Arrays.fill(keys, Integer.MAX_VALUE);
+        keys[0] = Integer.MIN_VALUE;
+        keys[1] = 1;
+        int[] out = new int[keys.length];
+        BatchSearch.lowerBoundAll(sorted, keys, out);
+        assertEquals(0, out[0]);
+        assertEquals(2, out[1]);
+        assertEquals(2, out[19]);
+    }
+    
+    @Test
+    void testLowerBoundAll_DenseBatchOnLargeArray_MatchesLowerBound() {
+        // Dense enough for the merge scan: unsorted keys still go interleaved, sorted ones are merged
+        Random random = new Random(11);
+        int[] sorted = random.ints(1 << 20).sorted().toArray();
+        int[] keys = new int[1 << 18];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextBoolean() ? sorted[random.nextInt(sorted.length)] : random.nextInt();
+        }
+        keys[0] = Integer.MAX_VALUE;
+        keys[1] = Integer.MIN_VALUE;
+        int[] out = new int[keys.length];
+        assertFalse(BatchSearch.usesMergeScan(sorted.length, keys));
+        
+        BatchSearch.lowerBoundAll(sorted, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(BinarySearch.lowerBound(sorted, keys[i]), out[i]);
+        }
+        
+        Arrays.sort(keys);
+        assertTrue(BatchSearch.usesMergeScan(sorted.length, keys));
+        BatchSearch.searchAll(sorted, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            int expected = BinarySearch.lowerBound(sorted, keys[i]);
+            boolean found = expected < sorted.length && sorted[expected] == keys[i];
+            assertEquals(found ? expected : -1, out[i]);
+        }
+    }
+    
+    @Test
+    void testLowerBoundAll_DenseSortedBatchAtThreshold_MatchesLowerBound() {
+        // Exactly one key per 8 elements of a 2^20 array: the smallest sorted batch that is merge-scanned
+        Random random = new Random(19);
+        int[] sorted = random.ints(1 << 20, -1000, 1000).sorted().toArray();
+        int[] keys = random.ints((1 << 20) / 8, -1100, 1100).sorted().toArray();
+        assertTrue(BatchSearch.usesMergeScan(sorted.length, keys));
+        assertFalse(BatchSearch.usesMergeScan(sorted.length, Arrays.copyOf(keys, keys.length - 1)));
+        
+        int[] out = new int[keys.length];
+        BatchSearch.lowerBoundAll(sorted, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(BinarySearch.lowerBound(sorted, keys[i]), out[i]);
+        }
+        
+        BatchSearch.searchAll(sorted, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            int expected = BinarySearch.lowerBound(sorted, keys[i]);
+            boolean found = expected < sorted.length && sorted[expected] == keys[i];
+            assertEquals(found ? expected : -1, out[i]);
+        }
+    }
+    
+    @Test
+    void testLowerBoundAll_DenseUnsortedBatch_TakesInterleavedPath() {
+        // As dense as the sorted batch above, but one pair out of order keeps it off the merge scan
+        Random random = new Random(23);
+        int[] sorted = random.ints(1 << 20, -1000, 1000).sorted().toArray();
+        int[] keys = random.ints((1 << 20) / 4, -1100, 1100).sorted().toArray();
+        int last = keys.length - 1;
+        keys[last] = -1100;
+        assertFalse(BatchSearch.usesMergeScan(sorted.length, keys));
+        
+        int[] out = new int[keys.length];
+        BatchSearch.lowerBoundAll(sorted, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(BinarySearch.lowerBound(sorted, keys[i]), out[i]);
+        }
+    }
+    
+    @Test
+    void testLowerBoundAll_SparseBatchOnLargeArray_MatchesLowerBound() {
+        Random random = new Random(5);
+        int[] sorted = random.ints(1 << 20).sorted().toArray();
+        int[] keys = random.ints(1_003).toArray();
+        int[] out = new int[keys.length];
+        assertFalse(BatchSearch.usesMergeScan(sorted.length, keys));
+        BatchSearch.lowerBoundAll(sorted, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(BinarySearch.lowerBound(sorted, keys[i]), out[i]);
+        }
+    }
+    
+    @Test
+    void testLowerBoundAll_InvalidArguments_ThrowsException() {
+        int[] sorted = {1, 2, 3};
+        assertThrows(IllegalArgumentException.class, () -> BatchSearch.lowerBoundAll(sorted, null, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> BatchSearch.lowerBoundAll(sorted, new int[1], null));
+        assertThrows(IllegalArgumentException.class, () -> BatchSearch.searchAll(sorted, new int[2], new int[1]));
+    }
+}
\ No newline at end of file
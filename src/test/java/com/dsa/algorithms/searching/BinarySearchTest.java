@@ -1,6 +1,10 @@
 package com.dsa.algorithms.searching;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -146,4 +150,87 @@ class BinarySearchTest {
         assertEquals(0, BinarySearch.binarySearch(withZeros, -2));
         assertEquals(6, BinarySearch.binarySearch(withZeros, 2));
     }
+    
+    @Test
+    void testLowerAndUpperBound_WithDuplicates_ReturnInsertionPoints() {
+        int[] arr = {1, 3, 3, 3, 5, 7};
+        
+        assertEquals(1, BinarySearch.lowerBound(arr, 3));
+        assertEquals(4, BinarySearch.upperBound(arr, 3));
+        assertEquals(4, BinarySearch.lowerBound(arr, 4));
+        assertEquals(4, BinarySearch.upperBound(arr, 4));
+        assertEquals(0, BinarySearch.lowerBound(arr, 0));
+        assertEquals(6, BinarySearch.lowerBound(arr, 8));
+        assertEquals(6, BinarySearch.upperBound(arr, 7));
+    }
+    
+    @Test
+    void testEqualRange_CountsOccurrences() {
+        int[] arr = {2, 4, 4, 4, 4, 6};
+        
+        assertArrayEquals(new int[]{1, 5}, BinarySearch.equalRange(arr, 4));
+        assertArrayEquals(new int[]{5, 5}, BinarySearch.equalRange(arr, 5));
+        assertArrayEquals(new int[]{0, 0}, BinarySearch.equalRange(arr, 1));
+        assertArrayEquals(new int[]{0, 0}, BinarySearch.equalRange(null, 1));
+        assertArrayEquals(new int[]{0, 0}, BinarySearch.equalRange(new int[0], 1));
+    }
+    
+    @Test
+    void testBounds_Range_StayWithinRange() {
+        int[] arr = {9, 1, 3, 5, 7, 0};
+        
+        assertEquals(2, BinarySearch.lowerBound(arr, 1, 5, 3));
+        assertEquals(3, BinarySearch.upperBound(arr, 1, 5, 3));
+        assertEquals(5, BinarySearch.lowerBound(arr, 1, 5, 100));
+        assertEquals(1, BinarySearch.branchlessLowerBound(arr, 1, 5, -100));
+        assertEquals(4, BinarySearch.branchlessLowerBound(arr, 1, 5, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> BinarySearch.lowerBound(arr, 2, 7, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> BinarySearch.branchlessLowerBound(arr, 3, 2, 1));
+    }
+    
+    @Test
+    void testBranchlessLowerBound_EverySizeAndKey_MatchesLowerBound() {
+        for (int n = 0; n <= 70; n++) {
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = 2 * (i / 3);
+            }
+            for (int key = -1; key <= 2 * (n / 3) + 2; key++) {
+                assertEquals(BinarySearch.lowerBound(arr, key), BinarySearch.branchlessLowerBound(arr, key),
+                    "n = " + n + ", key = " + key);
+            }
+        }
+    }
+    
+    @Test
+    void testBranchlessLowerBound_RandomLargeArray_MatchesArraysBinarySearch() {
+        Random random = new Random(42);
+        int[] arr = random.ints(100000).toArray();
+        arr[0] = Integer.MIN_VALUE;
+        arr[1] = Integer.MAX_VALUE;
+        Arrays.sort(arr);
+        
+        for (int i = 0; i < 10000; i++) {
+            int key = i % 2 == 0 ? random.nextInt() : arr[random.nextInt(arr.length)];
+            int index = BinarySearch.branchlessLowerBound(arr, key);
+            
+            assertTrue(index == arr.length || arr[index] >= key);
+            assertTrue(index == 0 || arr[index - 1] < key);
+        }
+        assertEquals(0, BinarySearch.branchlessLowerBound(arr, Integer.MIN_VALUE));
+        assertEquals(arr.length - 1, BinarySearch.branchlessLowerBound(arr, Integer.MAX_VALUE));
+        assertEquals(0, BinarySearch.branchlessLowerBound(null, 5));
+    }
+    
+    @Test
+    void testBounds_NullArrayRange_TreatedAsEmpty() {
+        assertEquals(0, BinarySearch.lowerBound(null, 5));
+        assertEquals(0, BinarySearch.lowerBound(null, 0, 0, 5));
+        assertEquals(3, BinarySearch.lowerBound(null, 3, 7, 5));
+        assertEquals(0, BinarySearch.upperBound(null, 5));
+        assertEquals(3, BinarySearch.upperBound(null, 3, 7, 5));
+        assertEquals(0, BinarySearch.branchlessLowerBound(null, 5));
+        assertEquals(3, BinarySearch.branchlessLowerBound(null, 3, 7, 5));
+        assertArrayEquals(new int[]{0, 0}, BinarySearch.equalRange(null, 5));
+    }
 }
\ No newline at end of file
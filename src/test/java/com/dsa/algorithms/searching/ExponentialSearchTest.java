@@ -0,0 +1,84 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Exponential Search algorithm
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "ExponentialSearchTest"
+ * ./gradlew test --tests "com.dsa.algorithms.searching.ExponentialSearchTest"
+ * ./gradlew test --tests "*ExponentialSearch*"
+ */
+class ExponentialSearchTest {
+    
+    @Test
+    void testExponentialSearch_ElementExists_ReturnsCorrectIndex() {
+        int[] arr = {1, 3, 5, 7, 9, 11};
+        assertEquals(0, ExponentialSearch.exponentialSearch(arr, 1));
+        assertEquals(2, ExponentialSearch.exponentialSearch(arr, 5));
+        assertEquals(5, ExponentialSearch.exponentialSearch(arr, 11));
+    }
+    
+    @Test
+    void testExponentialSearch_ElementNotExists_ReturnsMinusOne() {
+        int[] arr = {2, 4, 6, 8, 10};
+        assertEquals(-1, ExponentialSearch.exponentialSearch(arr, 1));
+        assertEquals(-1, ExponentialSearch.exponentialSearch(arr, 5));
+        assertEquals(-1, ExponentialSearch.exponentialSearch(arr, 12));
+    }
+    
+    @Test
+    void testExponentialSearch_EmptyOrNullArray_ReturnsMinusOne() {
+        assertEquals(-1, ExponentialSearch.exponentialSearch(new int[0], 5));
+        assertEquals(-1, ExponentialSearch.exponentialSearch(null, 5));
+        assertEquals(0, ExponentialSearch.lowerBound(new int[0], 3, 5));
+    }
+    
+    @Test
+    void testLowerBound_EveryHint_MatchesLowerBound() {
+        int[] arr = new int[37];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = 3 * (i / 3); // runs of three duplicates
+        }
+        for (int hint = -2; hint <= arr.length + 2; hint++) {
+            for (int key = -1; key <= arr.length + 3; key++) {
+                assertEquals(BinarySearch.lowerBound(arr, key), ExponentialSearch.lowerBound(arr, hint, key),
+                    "hint=" + hint + " key=" + key);
+            }
+        }
+    }
+    
+    @Test
+    void testLowerBound_RandomHintsOnLargeArray_MatchesLowerBound() {
+        Random random = new Random(29);
+        int[] arr = random.ints(100_000).sorted().toArray();
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextBoolean() ? arr[random.nextInt(arr.length)] : random.nextInt();
+            int hint = random.nextInt(arr.length + 1);
+            assertEquals(BinarySearch.lowerBound(arr, key), ExponentialSearch.lowerBound(arr, hint, key));
+        }
+        assertEquals(BinarySearch.lowerBound(arr, Integer.MAX_VALUE), ExponentialSearch.lowerBound(arr, 0, Integer.MAX_VALUE));
+    }
+    
+    @Test
+    void testUnboundedLowerBound_UnknownLength_FindsFirstNotBelow() {
+        int[] data = {1, 4, 4, 9, 16, 25, 36, 49, 64, 81, 100};
+        for (int key = 0; key <= 101; key++) {
+            int target = key;
+            int expected = BinarySearch.lowerBound(data, key);
+            assertEquals(expected, ExponentialSearch.unboundedLowerBound(i -> i < data.length && data[i] < target));
+        }
+    }
+    
+    @Test
+    void testUnboundedLowerBound_NeverPastKey_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> ExponentialSearch.unboundedLowerBound(null));
+        assertThrows(IllegalStateException.class, () -> ExponentialSearch.unboundedLowerBound(i -> true));
+        assertEquals(Integer.MAX_VALUE, ExponentialSearch.unboundedLowerBound(i -> i < Integer.MAX_VALUE));
+    }
+}
\ No newline at end of file
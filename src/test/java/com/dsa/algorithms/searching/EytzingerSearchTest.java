@@ -0,0 +1,165 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Eytzinger Search index
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "EytzingerSearchTest"
+ * ./gradlew test --tests "com.dsa.algorithms.searching.EytzingerSearchTest"
+ * ./gradlew test --tests "*EytzingerSearch*"
+ */
+class EytzingerSearchTest {
+    
+    @Test
+    void testLowerBound_SmallArray_ReturnsSortedPosition() {
+        EytzingerSearch.IntIndex index = EytzingerSearch.IntIndex.of(new int[]{1, 3, 5, 7, 9, 11});
+        assertEquals(0, index.lowerBound(0));
+        assertEquals(0, index.lowerBound(1));
+        assertEquals(2, index.lowerBound(4));
+        assertEquals(5, index.lowerBound(11));
+        assertEquals(6, index.lowerBound(12));
+    }
+    
+    @Test
+    void testContains_SmallArray_FindsOnlyPresentKeys() {
+        EytzingerSearch.IntIndex index = EytzingerSearch.IntIndex.of(new int[]{2, 4, 6, 8, 10});
+        assertTrue(index.contains(2));
+        assertTrue(index.contains(6));
+        assertTrue(index.contains(10));
+        assertFalse(index.contains(1));
+        assertFalse(index.contains(5));
+        assertFalse(index.contains(11));
+    }
+    
+    @Test
+    void testIntIndex_EmptyArray_ReturnsZero() {
+        EytzingerSearch.IntIndex index = EytzingerSearch.IntIndex.of(new int[0]);
+        assertEquals(0, index.size());
+        assertEquals(0, index.lowerBound(5));
+        assertFalse(index.contains(0));
+    }
+    
+    @Test
+    void testIntIndex_EverySizeAndKey_MatchesLowerBound() {
+        for (int n = 0; n <= 70; n++) {
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = 2 * (i / 2); // pairs of duplicates
+            }
+            EytzingerSearch.IntIndex index = EytzingerSearch.IntIndex.of(arr);
+            assertEquals(n, index.size());
+            for (int key = -1; key <= n + 1; key++) {
+                assertEquals(BinarySearch.lowerBound(arr, key), index.lowerBound(key), "n=" + n + " key=" + key);
+                assertEquals(Arrays.binarySearch(arr, key) >= 0, index.contains(key), "n=" + n + " key=" + key);
+            }
+        }
+    }
+    
+    @Test
+    void testIntIndex_ExtremeValues_HandlesOverflow() {
+        int[] arr = {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE};
+        EytzingerSearch.IntIndex index = EytzingerSearch.IntIndex.of(arr);
+        assertEquals(0, index.lowerBound(Integer.MIN_VALUE));
+        assertEquals(1, index.lowerBound(Integer.MIN_VALUE + 1));
+        assertEquals(3, index.lowerBound(1));
+        assertEquals(3, index.lowerBound(Integer.MAX_VALUE));
+        assertTrue(index.contains(Integer.MAX_VALUE));
+    }
+    
+    @Test
+    void testIntIndex_RandomLargeArray_MatchesBinarySearch() {
+        Random random = new Random(42);
+        int[] arr = random.ints(100_000).toArray();
+        Arrays.sort(arr);
+        EytzingerSearch.IntIndex index = EytzingerSearch.IntIndex.of(arr);
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextBoolean() ? arr[random.nextInt(arr.length)] : random.nextInt();
+            assertEquals(BinarySearch.lowerBound(arr, key), index.lowerBound(key));
+        }
+    }
+    
+    @Test
+    void testLongIndex_RandomArray_MatchesArraysBinarySearch() {
+        Random random = new Random(7);
+        long[] arr = random.longs(5_000).toArray();
+        arr[0] = Long.MIN_VALUE;
+        arr[1] = Long.MAX_VALUE;
+        Arrays.sort(arr);
+        EytzingerSearch.LongIndex index = EytzingerSearch.LongIndex.of(arr);
+        for (int i = 0; i < 5_000; i++) {
+            long key = random.nextBoolean() ? arr[random.nextInt(arr.length)] : random.nextLong();
+            int expected = Arrays.binarySearch(arr, key);
+            assertEquals(expected >= 0, index.contains(key));
+            if (expected < 0) {
+                assertEquals(-expected - 1, index.lowerBound(key));
+            } else {
+                assertEquals(key, arr[index.lowerBound(key)]);
+            }
+        }
+        assertEquals(0, index.lowerBound(Long.MIN_VALUE));
+        assertEquals(arr.length - 1, index.lowerBound(Long.MAX_VALUE));
+    }
+    
+    @Test
+    void testBlockedIntIndex_EverySizeAndKey_MatchesLowerBound() {
+        // Crosses the one-node, one-level and two-level shapes (16, 16 + 17 * 16 keys)
+        for (int n = 0; n <= 320; n++) {
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = 2 * (i / 2);
+            }
+            EytzingerSearch.BlockedIntIndex index = EytzingerSearch.BlockedIntIndex.of(arr);
+            assertEquals(n, index.size());
+            for (int key = -1; key <= n + 1; key++) {
+                assertEquals(BinarySearch.lowerBound(arr, key), index.lowerBound(key), "n=" + n + " key=" + key);
+                assertEquals(Arrays.binarySearch(arr, key) >= 0, index.contains(key), "n=" + n + " key=" + key);
+            }
+        }
+    }
+    
+    @Test
+    void testBlockedIntIndex_MaxValueKeys_DistinguishesPadding() {
+        int[] arr = {1, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        EytzingerSearch.BlockedIntIndex index = EytzingerSearch.BlockedIntIndex.of(arr);
+        assertEquals(1, index.lowerBound(Integer.MAX_VALUE));
+        assertTrue(index.contains(Integer.MAX_VALUE));
+        assertFalse(EytzingerSearch.BlockedIntIndex.of(new int[]{1}).contains(Integer.MAX_VALUE));
+        assertEquals(1, EytzingerSearch.BlockedIntIndex.of(new int[]{1}).lowerBound(Integer.MAX_VALUE));
+    }
+    
+    @Test
+    void testBlockedIntIndex_RandomLargeArray_MatchesBinarySearch() {
+        Random random = new Random(42);
+        int[] arr = random.ints(100_000).toArray();
+        Arrays.sort(arr);
+        EytzingerSearch.BlockedIntIndex index = EytzingerSearch.BlockedIntIndex.of(arr);
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextBoolean() ? arr[random.nextInt(arr.length)] : random.nextInt();
+            assertEquals(BinarySearch.lowerBound(arr, key), index.lowerBound(key));
+        }
+    }
+    
+    @Test
+    void testOf_UnsortedOrNullArray_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> EytzingerSearch.IntIndex.of(new int[]{2, 1}));
+        assertThrows(IllegalArgumentException.class, () -> EytzingerSearch.IntIndex.of(null));
+        assertThrows(IllegalArgumentException.class, () -> EytzingerSearch.LongIndex.of(new long[]{2, 1}));
+        assertThrows(IllegalArgumentException.class, () -> EytzingerSearch.LongIndex.of(null));
+        assertThrows(IllegalArgumentException.class, () -> EytzingerSearch.BlockedIntIndex.of(new int[]{2, 1}));
+    }
+    
+    @Test
+    void testCheckSize_AboveMaxSize_ThrowsException() {
+        // Arrays this large cannot be allocated in a test, so the shared check is exercised directly
+        assertDoesNotThrow(() -> EytzingerSearch.checkSize(EytzingerSearch.MAX_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> EytzingerSearch.checkSize(EytzingerSearch.MAX_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> EytzingerSearch.checkSize(Integer.MAX_VALUE));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.dsa.algorithms.searching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Interpolation Search algorithm
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "InterpolationSearchTest"
+ * ./gradlew test --tests "com.dsa.algorithms.searching.InterpolationSearchTest"
+ * ./gradlew test --tests "*InterpolationSearch*"
+ */
+class InterpolationSearchTest {
+    
+    @Test
+    void testInterpolationSearch_ElementExists_ReturnsCorrectIndex() {
+        int[] arr = {10, 20, 30, 40, 50, 60};
+        assertEquals(0, InterpolationSearch.interpolationSearch(arr, 10));
+        assertEquals(3, InterpolationSearch.interpolationSearch(arr, 40));
+        assertEquals(5, InterpolationSearch.interpolationSearch(arr, 60));
+    }
+    
+    @Test
+    void testInterpolationSearch_ElementNotExists_ReturnsMinusOne() {
+        int[] arr = {10, 20, 30, 40, 50};
+        assertEquals(-1, InterpolationSearch.interpolationSearch(arr, 5));
+        assertEquals(-1, InterpolationSearch.interpolationSearch(arr, 35));
+        assertEquals(-1, InterpolationSearch.interpolationSearch(arr, 55));
+    }
+    
+    @Test
+    void testInterpolationSearch_EmptyOrNullArray_ReturnsMinusOne() {
+        assertEquals(-1, InterpolationSearch.interpolationSearch(new int[0], 5));
+        assertEquals(-1, InterpolationSearch.interpolationSearch((int[]) null, 5));
+        assertEquals(-1, InterpolationSearch.interpolationSearch((long[]) null, 5L));
+    }
+    
+    @Test
+    void testInterpolationSearch_Duplicates_ReturnsFirstOccurrence() {
+        int[] arr = {1, 2, 2, 2, 2, 3};
+        assertEquals(1, InterpolationSearch.interpolationSearch(arr, 2));
+        assertEquals(0, InterpolationSearch.interpolationSearch(new int[]{7, 7, 7}, 7));
+    }
+    
+    @Test
+    void testLowerBound_UniformAndSkewedArrays_MatchesBinarySearch() {
+        Random random = new Random(17);
+        int[] uniform = random.ints(50_000, 0, 1_000_000).sorted().toArray();
+        int[] skewed = new int[50_000];
+        for (int i = 0; i < skewed.length; i++) {
+            skewed[i] = (int) ((long) i * i / 1000); // quadratic growth with long runs of duplicates
+        }
+        skewed[skewed.length - 1] = Integer.MAX_VALUE; // one outlier drags every plain guess left
+        
+        for (int[] arr : new int[][]{uniform, skewed}) {
+            for (int i = 0; i < 5_000; i++) {
+                int key = random.nextBoolean() ? arr[random.nextInt(arr.length)] : random.nextInt(3_000_000) - 1000;
+                assertEquals(BinarySearch.lowerBound(arr, key),
+                    InterpolationSearch.lowerBound(arr, 0, arr.length, key));
+            }
+        }
+    }
+    
+    @Test
+    void testLowerBound_ExtremeValues_HandlesOverflow() {
+        int[] arr = {Integer.MIN_VALUE, -5, 0, 5, Integer.MAX_VALUE};
+        for (int key : new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -5, 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE}) {
+            assertEquals(BinarySearch.lowerBound(arr, key), InterpolationSearch.lowerBound(arr, 0, arr.length, key));
+        }
+        
+        long[] longs = {Long.MIN_VALUE, -1L, 0L, 1L << 62, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+        for (long key : new long[]{Long.MIN_VALUE, -2L, 0L, 1L << 61, Long.MAX_VALUE - 1, Long.MAX_VALUE}) {
+            int expected = Arrays.binarySearch(longs, key);
+            assertEquals(expected < 0 ? -expected - 1 : expected, InterpolationSearch.lowerBound(longs, 0, longs.length, key));
+        }
+    }
+    
+    @Test
+    void testInterpolationSearch_RandomLongArray_MatchesArraysBinarySearch() {
+        Random random = new Random(23);
+        long[] arr = random.longs(20_000).distinct().sorted().toArray();
+        for (int i = 0; i < 5_000; i++) {
+            long key = random.nextBoolean() ? arr[random.nextInt(arr.length)] : random.nextLong();
+            int expected = Arrays.binarySearch(arr, key);
+            assertEquals(expected >= 0 ? expected : -1, InterpolationSearch.interpolationSearch(arr, key));
+        }
+    }
+    
+    @Test
+    void testLowerBound_Range_StaysWithinRange() {
+        int[] arr = {1, 2, 3, 4, 5, 6, 7, 8};
+        assertEquals(2, InterpolationSearch.lowerBound(arr, 2, 6, 0));
+        assertEquals(4, InterpolationSearch.lowerBound(arr, 2, 6, 5));
+        assertEquals(6, InterpolationSearch.lowerBound(arr, 2, 6, 8));
+        assertThrows(IndexOutOfBoundsException.class, () -> InterpolationSearch.lowerBound(arr, 4, 9, 1));
+    }
+}
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.dsa.algorithms.searching;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -114,4 +118,143 @@ class LinearSearchTest {
         assertEquals(0, LinearSearch.linearSearch(withZeros, -2));
         assertEquals(6, LinearSearch.linearSearch(withZeros, 2));
     }
+    
+    @Test
+    void testVectorizedSearch_EveryLengthAndPosition_MatchesLinearSearch() {
+        // Lengths around every vector width, with the match in the body and in the tail
+        for (int n = 0; n <= 70; n++) {
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = i % 7;
+            }
+            for (int target = -1; target <= 7; target++) {
+                assertEquals(LinearSearch.linearSearch(arr, target), LinearSearch.vectorizedSearch(arr, target),
+                    "n=" + n + " target=" + target);
+            }
+            for (int pos = 0; pos < n; pos++) {
+                arr[pos] = 100;
+                assertEquals(pos, LinearSearch.vectorizedSearch(arr, 100));
+                arr[pos] = pos % 7;
+            }
+        }
+    }
+    
+    @Test
+    void testVectorizedSearch_NullArray_ReturnsMinusOne() {
+        assertEquals(-1, LinearSearch.vectorizedSearch(null, 5));
+        assertEquals(-1, LinearSearch.vectorizedSearch(null, 0, 0, 5));
+    }
+    
+    @Test
+    void testVectorizedSearch_Range_StaysWithinRange() {
+        int[] arr = {7, 1, 2, 7, 3, 4, 7};
+        assertEquals(3, LinearSearch.vectorizedSearch(arr, 1, 6, 7));
+        assertEquals(-1, LinearSearch.vectorizedSearch(arr, 4, 6, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> LinearSearch.vectorizedSearch(arr, 2, 8, 7));
+    }
+    
+    @Test
+    void testParallelSearch_LargeArray_ReturnsFirstMatch() {
+        int[] arr = new int[1 << 20];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i % 1000;
+        }
+        arr[700_000] = -5;
+        arr[900_000] = -5;
+        arr[300_000] = -6;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(700_000, LinearSearch.parallelSearch(arr, -5, pool));
+            assertEquals(300_000, LinearSearch.parallelSearch(arr, -6, pool));
+            assertEquals(999, LinearSearch.parallelSearch(arr, 999, pool));
+            assertEquals(-1, LinearSearch.parallelSearch(arr, 1000, pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(700_000, LinearSearch.parallelSearch(arr, -5));
+    }
+    
+    @Test
+    void testParallelSearch_RandomMatches_MatchesLinearSearch() {
+        Random random = new Random(13);
+        int[] arr = random.ints(500_000, 0, 1 << 20).toArray();
+        for (int i = 0; i < 50; i++) {
+            int target = random.nextInt(1 << 20);
+            assertEquals(LinearSearch.linearSearch(arr, target), LinearSearch.parallelSearch(arr, target));
+        }
+        assertEquals(-1, LinearSearch.parallelSearch(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> LinearSearch.parallelSearch(arr, 1, null));
+    }
+    
+    @Test
+    void testCount_MixedArray_CountsOccurrences() {
+        int[] arr = new int[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i % 3;
+        }
+        assertEquals(334, LinearSearch.count(arr, 0));
+        assertEquals(333, LinearSearch.count(arr, 2));
+        assertEquals(0, LinearSearch.count(arr, 3));
+        assertEquals(0, LinearSearch.count(null, 3));
+    }
+    
+    @Test
+    void testFindAll_BufferLargeEnough_WritesEveryMatch() {
+        int[] arr = {4, 1, 4, 4, 2, 4, 3, 4, 4, 0, 4, 4, 4, 4, 4, 4, 4, 4, 1, 4};
+        int[] out = new int[arr.length];
+        int found = LinearSearch.findAll(arr, 4, out);
+        assertEquals(LinearSearch.count(arr, 4), found);
+        int expectedNext = 0;
+        for (int i = 0; i < found; i++) {
+            while (arr[expectedNext] != 4) expectedNext++;
+            assertEquals(expectedNext++, out[i]);
+        }
+    }
+    
+    @Test
+    void testFindAll_SmallBuffer_ResumesFromLastMatch() {
+        int[] arr = new int[100];
+        for (int i = 0; i < arr.length; i += 3) {
+            arr[i] = 9;
+        }
+        int[] out = new int[5];
+        int total = 0;
+        int from = 0;
+        int written;
+        do {
+            written = LinearSearch.findAll(arr, from, arr.length, 9, out);
+            for (int i = 0; i < written; i++) {
+                assertEquals(3 * (total + i), out[i]);
+            }
+            total += written;
+            if (written > 0) from = out[written - 1] + 1;
+        } while (written == out.length);
+        assertEquals(34, total);
+    }
+    
+    @Test
+    void testFindAll_InvalidArguments_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> LinearSearch.findAll(new int[1], 0, null));
+        assertThrows(IllegalArgumentException.class, () -> LinearSearch.findAll(null, 0, null));
+        assertEquals(0, LinearSearch.findAll(null, 0, new int[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> LinearSearch.findAll(new int[3], 1, 4, 0, new int[3]));
+    }
+    
+    @Test
+    void testScans_WithoutKernel_MatchVectorizedScans() {
+        Random random = new Random(31);
+        int[] arr = random.ints(10_007, 0, 50).toArray();
+        int[] vectorOut = new int[arr.length];
+        int[] scalarOut = new int[arr.length];
+        for (int target = -1; target <= 50; target++) {
+            assertEquals(LinearSearch.vectorizedSearch(arr, target),
+                LinearSearch.indexOf(arr, 0, arr.length, target, null));
+            assertEquals(LinearSearch.count(arr, target), LinearSearch.count(arr, 0, arr.length, target, null));
+            int found = LinearSearch.findAll(arr, target, vectorOut);
+            assertEquals(found, LinearSearch.findAll(arr, 0, arr.length, target, scalarOut, null));
+            for (int i = 0; i < found; i++) {
+                assertEquals(scalarOut[i], vectorOut[i]);
+            }
+        }
+    }
 }
\ No newline at end of file
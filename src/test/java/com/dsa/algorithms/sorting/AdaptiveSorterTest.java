@@ -0,0 +1,163 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the sampling algorithm dispatcher
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "AdaptiveSorterTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.AdaptiveSorterTest"
+ * ./gradlew test --tests "*AdaptiveSorter*"
+ */
+class AdaptiveSorterTest {
+    
+    private final AdaptiveSorter sorter = new AdaptiveSorter(1);
+    
+    @Test
+    void testChoose_TinyAndSmallInputs_UseSimpleSorts() {
+        assertEquals(SortAlgorithm.SMALL, sorter.choose(new int[10], 0, 10));
+        assertEquals(SortAlgorithm.INSERTION, sorter.choose(new Random(1).ints(40).toArray(), 0, 40));
+    }
+    
+    @Test
+    void testChoose_SortedOrReversedInput_UsesTimSort() {
+        int[] ascending = new int[5000];
+        int[] descending = new int[5000];
+        for (int i = 0; i < 5000; i++) {
+            ascending[i] = i;
+            descending[i] = -i;
+        }
+        ascending[2500] = -7;
+        
+        assertEquals(SortAlgorithm.TIM, sorter.choose(ascending, 0, 5000));
+        assertEquals(SortAlgorithm.TIM, sorter.choose(descending, 0, 5000));
+    }
+    
+    @Test
+    void testChoose_RandomInput_UsesQuickOrRadixBySize() {
+        Random random = new Random(2);
+        
+        assertEquals(SortAlgorithm.QUICK, sorter.choose(random.ints(500).toArray(), 0, 500));
+        assertEquals(SortAlgorithm.RADIX, sorter.choose(random.ints(50000).toArray(), 0, 50000));
+    }
+    
+    @Test
+    void testChoose_NarrowValueRange_UsesRadixSooner() {
+        Random random = new Random(3);
+        
+        assertEquals(SortAlgorithm.RADIX, sorter.choose(random.ints(2000, 0, 1000).toArray(), 0, 2000));
+        assertEquals(SortAlgorithm.QUICK, sorter.choose(random.ints(2000).toArray(), 0, 2000));
+    }
+    
+    @Test
+    void testChoose_FewDistinctValues_UsesDualPivotQuickSort() {
+        Random random = new Random(4);
+        int[] arr = new int[500];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(5) * 1_000_000;
+        }
+        
+        assertEquals(SortAlgorithm.DUAL_PIVOT_QUICK, sorter.choose(arr, 0, arr.length));
+    }
+    
+    @Test
+    void testChoose_VeryLargeInputWithSeveralCores_UsesParallelRadix() {
+        int[] arr = new Random(5).ints(1 << 20).toArray();
+        
+        assertEquals(SortAlgorithm.PARALLEL_RADIX, new AdaptiveSorter(4).choose(arr, 0, arr.length));
+        assertEquals(SortAlgorithm.RADIX, sorter.choose(arr, 0, arr.length));
+    }
+    
+    @Test
+    void testSort_ManyDistributions_MatchArraysSort() {
+        Random random = new Random(6);
+        for (int n : new int[]{0, 1, 15, 40, 300, 3000, 40000}) {
+            int[][] inputs = {
+                random.ints(n).toArray(),
+                random.ints(n, 0, 4).toArray(),
+                random.ints(n, 0, 1000).toArray(),
+                new int[n]
+            };
+            for (int[] input : inputs) {
+                int[] sortedInput = input.clone();
+                Arrays.sort(sortedInput);
+                int[] expected = sortedInput.clone();
+                
+                int[] arr = input.clone();
+                sorter.sort(arr);
+                assertArrayEquals(expected, arr);
+                
+                sorter.sort(sortedInput);
+                assertArrayEquals(expected, sortedInput);
+            }
+        }
+    }
+    
+    @Test
+    void testSort_ParallelRadixWithGivenPool_RunsOnThatPool() {
+        AtomicInteger workers = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(2, p -> {
+            workers.incrementAndGet();
+            return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+        }, null, false);
+        try {
+            AdaptiveSorter parallelSorter = new AdaptiveSorter(pool);
+            int[] arr = new Random(8).ints(1 << 20).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            assertEquals(SortAlgorithm.PARALLEL_RADIX, parallelSorter.choose(arr, 0, arr.length));
+            
+            parallelSorter.sort(arr);
+            assertArrayEquals(expected, arr);
+            assertTrue(workers.get() > 0);
+            assertTrue(workers.get() <= 2);
+            
+            int[] padded = new Random(9).ints((1 << 20) + 10).toArray();
+            int[] paddedExpected = padded.clone();
+            Arrays.sort(paddedExpected, 5, padded.length - 5);
+            parallelSorter.sort(padded, 5, padded.length - 5);
+            assertArrayEquals(paddedExpected, padded);
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    void testSort_OwnPoolOfGivenParallelism_SortsVeryLargeInput() {
+        int[] arr = new Random(10).ints(1 << 20).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        new AdaptiveSorter(2).sort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testSort_Range_SortsOnlyThatRange() {
+        int[] arr = new Random(7).ints(1000, 0, 100).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected, 100, 900);
+        
+        sorter.sort(arr, 100, 900);
+        
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testAdaptiveSorter_InvalidArguments_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveSorter(0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveSorter((ForkJoinPool) null));
+        assertThrows(IllegalArgumentException.class, () -> sorter.choose(null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(new int[3], 0, 4));
+        assertDoesNotThrow(() -> sorter.sort(null));
+    }
+}
\ No newline at end of file
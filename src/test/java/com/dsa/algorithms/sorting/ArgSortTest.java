@@ -0,0 +1,156 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for argsort and permutation application
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "ArgSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.ArgSortTest"
+ * ./gradlew test --tests "*ArgSort*"
+ */
+class ArgSortTest {
+    
+    @Test
+    void testArgsort_IntKeys_ReturnsSortingPermutation() {
+        int[] keys = {30, -10, 20, 0, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int[] copy = keys.clone();
+        
+        int[] perm = ArgSort.argsort(keys);
+        
+        assertArrayEquals(new int[]{4, 1, 3, 2, 0, 5}, perm);
+        assertArrayEquals(copy, keys);
+    }
+    
+    @Test
+    void testArgsort_DuplicateKeys_IsStable() {
+        Random random = new Random(42);
+        int[] intKeys = random.ints(5000, 0, 20).toArray();
+        long[] longKeys = Arrays.stream(intKeys).asLongStream().map(k -> k * 1_000_000_007L).toArray();
+        
+        int[] expected = IntStream.range(0, intKeys.length).boxed()
+            .sorted(Comparator.comparingInt(i -> intKeys[i]))
+            .mapToInt(Integer::intValue).toArray();
+        
+        assertArrayEquals(expected, ArgSort.argsort(intKeys));
+        assertArrayEquals(expected, ArgSort.argsort(longKeys));
+    }
+    
+    @Test
+    void testArgsort_LongKeys_ReturnsSortingPermutation() {
+        long[] keys = {5L, Long.MIN_VALUE, -1L, Long.MAX_VALUE, 0L};
+        
+        assertArrayEquals(new int[]{1, 2, 4, 0, 3}, ArgSort.argsort(keys));
+    }
+    
+    @Test
+    void testArgsort_CallerProvidedPermutation_IsFilled() {
+        int[] perm = new int[3];
+        ArgSort.argsort(new int[]{2, 3, 1}, perm);
+        assertArrayEquals(new int[]{2, 0, 1}, perm);
+        
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.argsort(new int[]{1, 2}, new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.argsort(new long[]{1}, null));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.argsort((int[]) null));
+    }
+    
+    @Test
+    void testArgsort_EmptyKeys_ReturnsEmptyPermutation() {
+        assertArrayEquals(new int[0], ArgSort.argsort(new int[0]));
+        assertArrayEquals(new int[0], ArgSort.argsort(new long[0]));
+    }
+    
+    @Test
+    void testApply_ReordersOtherColumnsByKey() {
+        int[] ages = {42, 17, 35};
+        long[] ids = {100L, 200L, 300L};
+        double[] scores = {1.5, 2.5, 3.5};
+        
+        int[] perm = ArgSort.argsort(ages);
+        
+        assertArrayEquals(new int[]{17, 35, 42}, ArgSort.apply(perm, ages));
+        assertArrayEquals(new long[]{200L, 300L, 100L}, ArgSort.apply(perm, ids));
+        assertArrayEquals(new double[]{2.5, 3.5, 1.5}, ArgSort.apply(perm, scores));
+    }
+    
+    @Test
+    void testApplyInPlace_MatchesApplyAndRestoresPermutation() {
+        Random random = new Random(7);
+        int n = 1000;
+        int[] keys = random.ints(n).toArray();
+        int[] perm = ArgSort.argsort(keys);
+        int[] permCopy = perm.clone();
+        
+        int[] intColumn = random.ints(n).toArray();
+        long[] longColumn = random.longs(n).toArray();
+        double[] doubleColumn = random.doubles(n).toArray();
+        int[] expectedInts = ArgSort.apply(perm, intColumn);
+        long[] expectedLongs = ArgSort.apply(perm, longColumn);
+        double[] expectedDoubles = ArgSort.apply(perm, doubleColumn);
+        
+        ArgSort.applyInPlace(perm, intColumn);
+        ArgSort.applyInPlace(perm, longColumn);
+        ArgSort.applyInPlace(perm, doubleColumn);
+        
+        assertArrayEquals(expectedInts, intColumn);
+        assertArrayEquals(expectedLongs, longColumn);
+        assertArrayEquals(expectedDoubles, doubleColumn);
+        assertArrayEquals(permCopy, perm);
+    }
+    
+    @Test
+    void testApply_NarrowColumns_MatchesApplyInPlace() {
+        int[] keys = {42, 17, 35, 17};
+        float[] weights = {1.5f, 2.5f, 3.5f, 4.5f};
+        short[] years = {1990, 2001, 1985, 2010};
+        char[] grades = {'A', 'B', 'C', 'D'};
+        byte[] flags = {1, 2, 3, 4};
+        
+        int[] perm = ArgSort.argsort(keys);
+        int[] permCopy = perm.clone();
+        
+        assertArrayEquals(new float[]{2.5f, 4.5f, 3.5f, 1.5f}, ArgSort.apply(perm, weights));
+        assertArrayEquals(new short[]{2001, 2010, 1985, 1990}, ArgSort.apply(perm, years));
+        assertArrayEquals(new char[]{'B', 'D', 'C', 'A'}, ArgSort.apply(perm, grades));
+        assertArrayEquals(new byte[]{2, 4, 3, 1}, ArgSort.apply(perm, flags));
+        
+        ArgSort.applyInPlace(perm, weights);
+        ArgSort.applyInPlace(perm, years);
+        ArgSort.applyInPlace(perm, grades);
+        ArgSort.applyInPlace(perm, flags);
+        
+        assertArrayEquals(new float[]{2.5f, 4.5f, 3.5f, 1.5f}, weights);
+        assertArrayEquals(new short[]{2001, 2010, 1985, 1990}, years);
+        assertArrayEquals(new char[]{'B', 'D', 'C', 'A'}, grades);
+        assertArrayEquals(new byte[]{2, 4, 3, 1}, flags);
+        assertArrayEquals(permCopy, perm);
+    }
+    
+    @Test
+    void testApplyInPlace_KeyColumn_EndsUpSorted() {
+        int[] keys = {5, 3, 9, 1, 3, 7};
+        int[] perm = ArgSort.argsort(keys);
+        
+        ArgSort.applyInPlace(perm, keys);
+        
+        assertArrayEquals(new int[]{1, 3, 3, 5, 7, 9}, keys);
+    }
+    
+    @Test
+    void testApply_MismatchedLengths_ThrowsException() {
+        int[] perm = {1, 0};
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.apply(perm, new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.apply(perm, new long[2], new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.applyInPlace(null, new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.apply(perm, new float[2], new float[3]));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.applyInPlace(perm, (byte[]) null));
+    }
+}
\ No newline at end of file
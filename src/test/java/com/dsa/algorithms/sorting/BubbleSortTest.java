@@ -1,6 +1,10 @@
 package com.dsa.algorithms.sorting;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -100,4 +104,32 @@ class BubbleSortTest {
         BubbleSort.bubbleSort(arr2);
         assertArrayEquals(new int[]{1, 2}, arr2);
     }
+    
+    @Test
+    void testBubbleSort_Range_SortsOnlyThatRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        BubbleSort.bubbleSort(arr, 2, 7);
+        assertArrayEquals(new int[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, arr);
+        
+        Random random = new Random(107);
+        for (int round = 0; round < 50; round++) {
+            int[] values = random.ints(300, -100, 100).toArray();
+            int from = random.nextInt(150);
+            int to = from + random.nextInt(151);
+            int[] expected = values.clone();
+            Arrays.sort(expected, from, to);
+            
+            BubbleSort.bubbleSort(values, from, to);
+            assertArrayEquals(expected, values);
+        }
+    }
+    
+    @Test
+    void testBubbleSort_InvalidRange_ThrowsException() {
+        int[] arr = {3, 2, 1};
+        assertThrows(IndexOutOfBoundsException.class, () -> BubbleSort.bubbleSort(arr, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> BubbleSort.bubbleSort(arr, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> BubbleSort.bubbleSort(arr, 2, 1));
+        assertDoesNotThrow(() -> BubbleSort.bubbleSort(null, 0, 0));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for sorting keys together with payload arrays
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "CoSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.CoSortTest"
+ * ./gradlew test --tests "*CoSort*"
+ */
+class CoSortTest {
+    
+    @Test
+    void testSort_IntPayload_MovesWithKeys() {
+        int[] keys = {3, 1, 2};
+        int[] values = {30, 10, 20};
+        
+        CoSort.sort(keys, values);
+        
+        assertArrayEquals(new int[]{1, 2, 3}, keys);
+        assertArrayEquals(new int[]{10, 20, 30}, values);
+    }
+    
+    @Test
+    void testSort_LargeRandomInput_KeepsPairsTogether() {
+        Random random = new Random(42);
+        int n = 20000;
+        int[] keys = random.ints(n, -500, 500).toArray();
+        int[] original = keys.clone();
+        int[] rows = new int[n];
+        long[] encoded = new long[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = i;
+            encoded[i] = (long) keys[i] * n + i;
+        }
+        int[] longKeys = keys.clone();
+        
+        CoSort.sort(keys, rows);
+        CoSort.sort(longKeys, encoded);
+        
+        int[] sorted = original.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(sorted, keys);
+        assertArrayEquals(sorted, longKeys);
+        
+        boolean[] seen = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            assertEquals(original[rows[i]], keys[i]);
+            assertFalse(seen[rows[i]]);
+            seen[rows[i]] = true;
+            assertEquals(longKeys[i], Math.floorDiv(encoded[i], n));
+        }
+    }
+    
+    @Test
+    void testSort_SortedAndEqualKeys_KeepsPairsTogether() {
+        int n = 5000;
+        int[] ascending = new int[n];
+        int[] descending = new int[n];
+        int[] equal = new int[n];
+        int[] ascendingValues = new int[n];
+        int[] descendingValues = new int[n];
+        long[] equalValues = new long[n];
+        for (int i = 0; i < n; i++) {
+            ascending[i] = i;
+            descending[i] = n - i;
+            equal[i] = 9;
+            ascendingValues[i] = -i;
+            descendingValues[i] = -(n - i);
+            equalValues[i] = i;
+        }
+        
+        CoSort.sort(ascending, ascendingValues);
+        CoSort.sort(descending, descendingValues);
+        CoSort.sort(equal, equalValues);
+        
+        for (int i = 0; i < n; i++) {
+            assertEquals(-ascending[i], ascendingValues[i]);
+            assertEquals(-descending[i], descendingValues[i]);
+            assertEquals(i + 1, descending[i]);
+        }
+        long[] rows = equalValues.clone();
+        Arrays.sort(rows);
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, rows[i]);
+        }
+    }
+    
+    @Test
+    void testSort_SeveralPayloads_IsStableAndMovesAllColumns() {
+        int[] keys = {2, 1, 2, 1, 0};
+        int[] rows = {0, 1, 2, 3, 4};
+        int[] ages = {20, 10, 21, 11, 5};
+        long[] ids = {200L, 100L, 201L, 101L, 50L};
+        
+        CoSort.sort(keys, new int[][]{rows, ages}, new long[][]{ids});
+        
+        assertArrayEquals(new int[]{0, 1, 1, 2, 2}, keys);
+        assertArrayEquals(new int[]{4, 1, 3, 0, 2}, rows);
+        assertArrayEquals(new int[]{5, 10, 11, 20, 21}, ages);
+        assertArrayEquals(new long[]{50L, 100L, 101L, 200L, 201L}, ids);
+    }
+    
+    @Test
+    void testSort_InvalidArrays_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> CoSort.sort(null, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> CoSort.sort(new int[2], (long[]) null));
+        assertThrows(IllegalArgumentException.class, () -> CoSort.sort(new int[2], new int[3]));
+        assertThrows(IllegalArgumentException.class,
+            () -> CoSort.sort(new int[2], new int[][]{new int[2]}, new long[][]{new long[1]}));
+    }
+}
\ No newline at end of file
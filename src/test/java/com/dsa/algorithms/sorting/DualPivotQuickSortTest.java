@@ -0,0 +1,166 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Dual-Pivot Quick Sort algorithm
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "DualPivotQuickSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.DualPivotQuickSortTest"
+ * ./gradlew test --tests "*DualPivotQuickSort*"
+ */
+class DualPivotQuickSortTest {
+    
+    @Test
+    void testDualPivotQuickSort_EmptyArray_NoChange() {
+        int[] arr = {};
+        DualPivotQuickSort.dualPivotQuickSort(arr);
+        assertEquals(0, arr.length);
+    }
+    
+    @Test
+    void testDualPivotQuickSort_NullArray_NoException() {
+        assertDoesNotThrow(() -> DualPivotQuickSort.dualPivotQuickSort(null));
+    }
+    
+    @Test
+    void testDualPivotQuickSort_RandomOrder_SortsCorrectly() {
+        int[] arr = {10, 7, 8, 9, 1, 5};
+        DualPivotQuickSort.dualPivotQuickSort(arr);
+        assertArrayEquals(new int[]{1, 5, 7, 8, 9, 10}, arr);
+    }
+    
+    @Test
+    void testDualPivotQuickSort_ExtremeValues_HandlesCorrectly() {
+        int[] arr = {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1, 1};
+        DualPivotQuickSort.dualPivotQuickSort(arr);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}, arr);
+    }
+    
+    @Test
+    void testDualPivotQuickSort_AllSameElements_HandlesCorrectly() {
+        int[] arr = new int[100_000];
+        Arrays.fill(arr, 7);
+        
+        DualPivotQuickSort.dualPivotQuickSort(arr);
+        
+        for (int value : arr) {
+            assertEquals(7, value);
+        }
+    }
+    
+    @Test
+    void testDualPivotQuickSort_FewDistinctKeys_MatchesArraysSort() {
+        Random random = new Random(23);
+        for (int distinct : new int[]{2, 3, 5, 16}) {
+            int[] arr = random.ints(200_000, 0, distinct).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            DualPivotQuickSort.dualPivotQuickSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testDualPivotQuickSort_SortedAndReversed_SortsCorrectly() {
+        int[] sorted = new int[10_000];
+        int[] reversed = new int[10_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reversed[i] = sorted.length - i;
+        }
+        
+        DualPivotQuickSort.dualPivotQuickSort(sorted);
+        DualPivotQuickSort.dualPivotQuickSort(reversed);
+        
+        for (int i = 0; i < sorted.length - 1; i++) {
+            assertTrue(sorted[i] <= sorted[i + 1]);
+            assertTrue(reversed[i] <= reversed[i + 1]);
+        }
+    }
+    
+    @Test
+    void testDualPivotQuickSort_RandomArrays_MatchArraysSort() {
+        Random random = new Random(29);
+        for (int round = 0; round < 200; round++) {
+            int[] arr = random.ints(random.nextInt(1000), -50, 50).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            DualPivotQuickSort.dualPivotQuickSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testDualPivotQuickSort_Range_SortsOnlyThatRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        DualPivotQuickSort.dualPivotQuickSort(arr, 2, 7);
+        assertArrayEquals(new int[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, arr);
+        
+        Random random = new Random(107);
+        for (int round = 0; round < 50; round++) {
+            int[] values = random.ints(300, -100, 100).toArray();
+            int from = random.nextInt(150);
+            int to = from + random.nextInt(151);
+            int[] expected = values.clone();
+            Arrays.sort(expected, from, to);
+            
+            DualPivotQuickSort.dualPivotQuickSort(values, from, to);
+            assertArrayEquals(expected, values);
+        }
+    }
+    
+    @Test
+    void testDualPivotQuickSort_InvalidRange_ThrowsException() {
+        int[] arr = {3, 2, 1};
+        assertThrows(IndexOutOfBoundsException.class, () -> DualPivotQuickSort.dualPivotQuickSort(arr, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> DualPivotQuickSort.dualPivotQuickSort(arr, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> DualPivotQuickSort.dualPivotQuickSort(arr, 2, 1));
+        assertDoesNotThrow(() -> DualPivotQuickSort.dualPivotQuickSort(null, 0, 0));
+    }
+    
+    @Test
+    void testDualPivotQuickSort_LargePatternedInputs_SortWithoutStackOverflow() {
+        int n = 1 << 20;
+        int[] sawtooth = new int[n];
+        int[] organPipe = new int[n];
+        int[] pivotRuns = new int[n];
+        for (int i = 0; i < n; i++) {
+            sawtooth[i] = i % 1024;
+            organPipe[i] = i < n / 2 ? i : n - i;
+            pivotRuns[i] = i % 2 == 0 ? i : 0; // half the range shares one key
+        }
+        for (int[] arr : new int[][]{sawtooth, organPipe, pivotRuns}) {
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            DualPivotQuickSort.dualPivotQuickSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testDualPivotQuickSort_DepthLimitExhausted_FallsBackToHeapSort() {
+        Random random = new Random(131);
+        int[] arr = random.ints(5000, -1000, 1000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        DualPivotQuickSort.sort(arr, 0, arr.length - 1, 0);
+        assertArrayEquals(expected, arr);
+        
+        int[] partial = random.ints(5000).toArray();
+        expected = partial.clone();
+        Arrays.sort(expected);
+        DualPivotQuickSort.sort(partial, 0, partial.length - 1, 2);
+        assertArrayEquals(expected, partial);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for External Merge Sort
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "ExternalSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.ExternalSortTest"
+ * ./gradlew test --tests "*ExternalSort*"
+ */
+class ExternalSortTest {
+    
+    @Test
+    void testSort_FitsInOneChunk_SortsCorrectly() throws IOException {
+        int[] values = {5, -3, 9, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, 5};
+        assertSortsLike(values, new ExternalSort());
+    }
+    
+    @Test
+    void testSort_ManyRunsSinglePass_SortsCorrectly() throws IOException {
+        // 4 KiB budget = 1024-int chunks, so 50,000 ints make 49 runs merged at once
+        int[] values = new Random(131).ints(50_000).toArray();
+        assertSortsLike(values, new ExternalSort(4096, 64, null));
+    }
+    
+    @Test
+    void testSort_MoreRunsThanFanIn_MergesInSeveralPasses() throws IOException {
+        // 256-byte budget with 64-byte buffers allows a fan-in of 3, and makes 32-int runs
+        int[] values = new Random(137).ints(10_000, -500, 500).toArray();
+        assertSortsLike(values, new ExternalSort(256, 64, null));
+    }
+    
+    @Test
+    void testSort_EmptyInput_WritesEmptyOutput() throws IOException {
+        assertSortsLike(new int[0], new ExternalSort());
+    }
+    
+    @Test
+    void testSort_SameInputAndOutput_SortsInPlace() throws IOException {
+        int[] values = new Random(139).ints(5_000).toArray();
+        Path file = writeInts(values);
+        try {
+            new ExternalSort(1024, 128, null).sort(file, file);
+            
+            Arrays.sort(values);
+            assertArrayEquals(values, readInts(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void testSort_TempDirectory_IsLeftEmpty() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("external-sort-test");
+        int[] values = new Random(149).ints(20_000).toArray();
+        try {
+            assertSortsLike(values, new ExternalSort(512, 64, tempDirectory));
+            
+            try (Stream<Path> leftovers = Files.list(tempDirectory)) {
+                assertEquals(0, leftovers.count());
+            }
+        } finally {
+            Files.deleteIfExists(tempDirectory);
+        }
+    }
+    
+    @Test
+    void testSort_InvalidInputSize_ThrowsAndCleansUp() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("external-sort-test");
+        Path input = Files.createTempFile("external-sort-input", ".bin");
+        Path output = Files.createTempFile("external-sort-output", ".bin");
+        try {
+            Files.write(input, new byte[]{0, 0, 0, 1, 2});
+            ExternalSort sorter = new ExternalSort(512, 64, tempDirectory);
+            
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(input, output));
+            try (Stream<Path> leftovers = Files.list(tempDirectory)) {
+                assertEquals(0, leftovers.count());
+            }
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(tempDirectory);
+        }
+    }
+    
+    @Test
+    void testChunkSize_LeavesRoomForRunBuffers() throws IOException {
+        ExternalSort sorter = new ExternalSort(4096, 64, null);
+        assertEquals((4096 - 2 * 64) / Integer.BYTES, sorter.chunkSize());
+        
+        // At the minimum budget the chunk is a single buffer of ints
+        ExternalSort minimal = new ExternalSort(192, 64, null);
+        assertEquals(64 / Integer.BYTES, minimal.chunkSize());
+        int[] values = new Random(59).ints(1_000, -100, 100).toArray();
+        assertSortsLike(values, minimal);
+    }
+    
+    @Test
+    void testConstructor_InvalidConfiguration_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort(1024, 2, null));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort(100, 64, null));
+    }
+    
+    private static void assertSortsLike(int[] values, ExternalSort sorter) throws IOException {
+        Path input = writeInts(values);
+        Path output = Files.createTempFile("external-sort-output", ".bin");
+        try {
+            sorter.sort(input, output);
+            
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, readInts(output));
+            assertArrayEquals(values, readInts(input));
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+        }
+    }
+    
+    private static Path writeInts(int[] values) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES);
+        bytes.asIntBuffer().put(values);
+        Path file = Files.createTempFile("external-sort-input", ".bin");
+        Files.write(file, bytes.array());
+        return file;
+    }
+    
+    private static int[] readInts(Path file) throws IOException {
+        IntBuffer ints = ByteBuffer.wrap(Files.readAllBytes(file)).asIntBuffer();
+        int[] values = new int[ints.remaining()];
+        ints.get(values);
+        return values;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the stable in-place merge sort
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "InPlaceMergeSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.InPlaceMergeSortTest"
+ * ./gradlew test --tests "*InPlaceMergeSort*"
+ */
+class InPlaceMergeSortTest {
+    
+    /** A sort key plus the position the record started at, to observe stability */
+    private static final class Row {
+        final int key;
+        final int position;
+        
+        Row(int key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+    }
+    
+    private static final Comparator<Row> BY_KEY = Comparator.comparingInt(row -> row.key);
+    
+    private static Row[] rows(int n, int distinctKeys, long seed) {
+        Random random = new Random(seed);
+        Row[] rows = new Row[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = new Row(random.nextInt(distinctKeys), i);
+        }
+        return rows;
+    }
+    
+    private static void assertSortedAndStable(Row[] rows) {
+        for (int i = 1; i < rows.length; i++) {
+            assertTrue(rows[i - 1].key <= rows[i].key, "not sorted at " + i);
+            if (rows[i - 1].key == rows[i].key) {
+                assertTrue(rows[i - 1].position < rows[i].position, "equal keys reordered at " + i);
+            }
+        }
+    }
+    
+    @Test
+    void testInPlaceMergeSort_EdgeCases_HandlesCorrectly() {
+        assertDoesNotThrow(() -> InPlaceMergeSort.inPlaceMergeSort((int[]) null));
+        
+        int[] empty = {};
+        InPlaceMergeSort.inPlaceMergeSort(empty);
+        assertArrayEquals(new int[]{}, empty);
+        
+        int[] single = {5};
+        InPlaceMergeSort.inPlaceMergeSort(single);
+        assertArrayEquals(new int[]{5}, single);
+    }
+    
+    @Test
+    void testInPlaceMergeSort_RandomArrays_MatchArraysSort() {
+        Random random = new Random(42);
+        for (int n : new int[]{2, 19, 20, 21, 39, 41, 100, 1000, 4097, 100000}) {
+            for (int bound : new int[]{3, 1000, Integer.MAX_VALUE}) {
+                int[] arr = random.ints(n, 0, bound).toArray();
+                int[] expected = arr.clone();
+                Arrays.sort(expected);
+                
+                InPlaceMergeSort.inPlaceMergeSort(arr);
+                
+                assertArrayEquals(expected, arr, "n = " + n + ", bound = " + bound);
+            }
+        }
+    }
+    
+    @Test
+    void testInPlaceMergeSort_SortedReversedAndSawtooth_MatchArraysSort() {
+        int n = 10000;
+        int[][] inputs = new int[3][n];
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = i;
+            inputs[1][i] = n - i;
+            inputs[2][i] = i % 37;
+        }
+        
+        for (int[] arr : inputs) {
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            InPlaceMergeSort.inPlaceMergeSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testInPlaceMergeSort_Range_SortsOnlyThatRange() {
+        int[] arr = new Random(3).ints(500, 0, 50).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected, 37, 463);
+        
+        InPlaceMergeSort.inPlaceMergeSort(arr, 37, 463);
+        
+        assertArrayEquals(expected, arr);
+        assertThrows(IndexOutOfBoundsException.class, () -> InPlaceMergeSort.inPlaceMergeSort(arr, 5, 501));
+    }
+    
+    @Test
+    void testInPlaceMergeSort_LargeInputsWithManyDuplicates_IsStable() {
+        for (int distinctKeys : new int[]{1, 2, 10, 1000, 100000}) {
+            Row[] rows = rows(100000, distinctKeys, distinctKeys);
+            
+            InPlaceMergeSort.inPlaceMergeSort(rows, BY_KEY);
+            
+            assertSortedAndStable(rows);
+        }
+    }
+    
+    @Test
+    void testInPlaceMergeSort_ManySizes_IsStable() {
+        for (int n = 0; n < 300; n++) {
+            Row[] rows = rows(n, 1 + n / 10, n);
+            
+            InPlaceMergeSort.inPlaceMergeSort(rows, BY_KEY);
+            
+            assertSortedAndStable(rows);
+        }
+    }
+    
+    @Test
+    void testInPlaceMergeSort_MultiKeySort_SecondSortKeepsFirstOrder() {
+        // Sorting by the minor key first and the major key second is only correct if stable
+        Random random = new Random(9);
+        int n = 20000;
+        int[][] records = new int[n][];
+        for (int i = 0; i < n; i++) {
+            records[i] = new int[]{random.nextInt(20), random.nextInt(20)};
+        }
+        
+        InPlaceMergeSort.inPlaceMergeSort(records, Comparator.comparingInt(r -> r[1]));
+        InPlaceMergeSort.inPlaceMergeSort(records, Comparator.comparingInt(r -> r[0]));
+        
+        for (int i = 1; i < n; i++) {
+            int major = Integer.compare(records[i - 1][0], records[i][0]);
+            assertTrue(major < 0 || (major == 0 && records[i - 1][1] <= records[i][1]));
+        }
+    }
+    
+    @Test
+    void testInPlaceMergeSort_Lists_IsStable() {
+        Row[] rows = rows(5000, 7, 11);
+        List<Row> arrayList = new ArrayList<>(Arrays.asList(rows));
+        List<Row> linkedList = new LinkedList<>(Arrays.asList(rows));
+        
+        InPlaceMergeSort.inPlaceMergeSort(arrayList, BY_KEY);
+        InPlaceMergeSort.inPlaceMergeSort(linkedList, BY_KEY);
+        
+        assertSortedAndStable(arrayList.toArray(new Row[0]));
+        assertSortedAndStable(linkedList.toArray(new Row[0]));
+    }
+    
+    @Test
+    void testInPlaceMergeSort_NullComparator_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> InPlaceMergeSort.inPlaceMergeSort(new Integer[]{2, 1}, null));
+    }
+}
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.dsa.algorithms.sorting;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -92,7 +96,7 @@ class InsertionSortTest {
     
     @Test
     void testInsertionSort_NullArray_NoException() {
-        assertDoesNotThrow(() -> InsertionSort.insertionSort(null));
+        assertDoesNotThrow(() -> InsertionSort.insertionSort((int[]) null));
     }
     
     @Test
@@ -121,4 +125,153 @@ class InsertionSortTest {
         InsertionSort.insertionSort(arr);
         assertArrayEquals(new int[]{1, 3, 4}, arr);
     }
+    
+    @Test
+    void testBinaryInsertionSort_EdgeInputs_HandlesCorrectly() {
+        assertDoesNotThrow(() -> InsertionSort.binaryInsertionSort(null));
+        
+        int[] single = {42};
+        InsertionSort.binaryInsertionSort(single);
+        assertArrayEquals(new int[]{42}, single);
+        
+        int[] arr = {5, 2, 4, 6, 1, 3, 2};
+        InsertionSort.binaryInsertionSort(arr);
+        assertArrayEquals(new int[]{1, 2, 2, 3, 4, 5, 6}, arr);
+    }
+    
+    @Test
+    void testBinaryInsertionSort_RandomArrays_MatchArraysSort() {
+        Random random = new Random(103);
+        for (int round = 0; round < 100; round++) {
+            int[] arr = random.ints(random.nextInt(200), -20, 20).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            InsertionSort.binaryInsertionSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testInsertionSort_Range_SortsOnlyThatRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        InsertionSort.insertionSort(arr, 2, 7);
+        assertArrayEquals(new int[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, arr);
+        
+        Random random = new Random(107);
+        for (int round = 0; round < 50; round++) {
+            int[] values = random.ints(300, -100, 100).toArray();
+            int from = random.nextInt(150);
+            int to = from + random.nextInt(151);
+            int[] expected = values.clone();
+            Arrays.sort(expected, from, to);
+            
+            InsertionSort.insertionSort(values, from, to);
+            assertArrayEquals(expected, values);
+        }
+    }
+    
+    @Test
+    void testInsertionSort_InvalidRange_ThrowsException() {
+        int[] arr = {3, 2, 1};
+        assertThrows(IndexOutOfBoundsException.class, () -> InsertionSort.insertionSort(arr, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> InsertionSort.insertionSort(arr, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> InsertionSort.insertionSort(arr, 2, 1));
+        assertDoesNotThrow(() -> InsertionSort.insertionSort((int[]) null, 0, 0));
+    }
+    
+    @Test
+    void testBinaryInsertionSort_Range_SortsOnlyThatRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        InsertionSort.binaryInsertionSort(arr, 2, 7);
+        assertArrayEquals(new int[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, arr);
+    }
+    
+    @Test
+    void testInsertionSort_LongShortCharArrays_MatchArraysSort() {
+        Random random = new Random(16);
+        long[] longs = random.longs(2000).toArray();
+        short[] shorts = new short[2000];
+        char[] chars = new char[2000];
+        for (int i = 0; i < 2000; i++) {
+            shorts[i] = (short) random.nextInt();
+            chars[i] = (char) random.nextInt(100);
+        }
+        long[] expectedLongs = longs.clone();
+        short[] expectedShorts = shorts.clone();
+        char[] expectedChars = chars.clone();
+        Arrays.sort(expectedLongs);
+        Arrays.sort(expectedShorts);
+        Arrays.sort(expectedChars);
+        
+        InsertionSort.insertionSort(longs);
+        InsertionSort.insertionSort(shorts);
+        InsertionSort.insertionSort(chars);
+        
+        assertArrayEquals(expectedLongs, longs);
+        assertArrayEquals(expectedShorts, shorts);
+        assertArrayEquals(expectedChars, chars);
+    }
+    
+    @Test
+    void testInsertionSort_FloatDoubleArrays_MatchArraysSort() {
+        Random random = new Random(17);
+        double[] doubles = random.doubles(2000, -100, 100).toArray();
+        float[] floats = new float[2000];
+        for (int i = 0; i < 2000; i++) {
+            floats[i] = (float) doubles[i];
+        }
+        double[] expectedDoubles = doubles.clone();
+        float[] expectedFloats = floats.clone();
+        Arrays.sort(expectedDoubles);
+        Arrays.sort(expectedFloats);
+        
+        InsertionSort.insertionSort(doubles);
+        InsertionSort.insertionSort(floats);
+        
+        assertArrayEquals(expectedDoubles, doubles);
+        assertArrayEquals(expectedFloats, floats);
+    }
+    
+    @Test
+    void testInsertionSort_NaNAndSignedZeros_UseTotalOrder() {
+        double[] doubles = {Double.NaN, 0.0, 1.5, -0.0, Double.NEGATIVE_INFINITY, Double.NaN, -0.0, 0.0};
+        float[] floats = {0.0f, Float.NaN, -0.0f, Float.POSITIVE_INFINITY, -1.0f, -0.0f};
+        
+        InsertionSort.insertionSort(doubles);
+        InsertionSort.insertionSort(floats);
+        
+        assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, -0.0, -0.0, 0.0, 0.0, 1.5, Double.NaN, Double.NaN}, doubles);
+        assertArrayEquals(new float[]{-1.0f, -0.0f, -0.0f, 0.0f, Float.POSITIVE_INFINITY, Float.NaN}, floats);
+    }
+    
+    @Test
+    void testInsertionSort_LargeDoubleArrayWithSpecialValues_MatchArraysSort() {
+        Random random = new Random(18);
+        double[] special = {Double.NaN, -0.0, 0.0, Double.MIN_VALUE, -Double.MAX_VALUE};
+        double[] arr = new double[2000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(4) == 0 ? special[random.nextInt(special.length)] : random.nextInt(50) - 25;
+        }
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        InsertionSort.insertionSort(arr, 0, arr.length);
+        
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testInsertionSort_PrimitiveRange_SortsOnlyThatRange() {
+        long[] longs = {9L, 5L, 3L, 1L, 7L, 0L};
+        char[] chars = {'z', 'c', 'b', 'a', 'y'};
+        
+        InsertionSort.insertionSort(longs, 1, 5);
+        InsertionSort.insertionSort(chars, 1, 4);
+        
+        assertArrayEquals(new long[]{9L, 1L, 3L, 5L, 7L, 0L}, longs);
+        assertArrayEquals(new char[]{'z', 'a', 'b', 'c', 'y'}, chars);
+        assertThrows(IndexOutOfBoundsException.class, () -> InsertionSort.insertionSort(new float[3], 2, 1));
+        assertDoesNotThrow(() -> InsertionSort.insertionSort((double[]) null));
+    }
 }
\ No newline at end of file
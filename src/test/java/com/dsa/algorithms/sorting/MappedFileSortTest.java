@@ -0,0 +1,132 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the off-heap mapped file sort
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "MappedFileSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.MappedFileSortTest"
+ * ./gradlew test --tests "*MappedFileSort*"
+ */
+class MappedFileSortTest {
+    
+    @Test
+    void testSort_HeapIntBuffer_SortsCorrectly() {
+        int[] values = {5, -2, 9, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, 3};
+        IntBuffer buffer = IntBuffer.wrap(values);
+        
+        MappedFileSort.sort(buffer);
+        
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -2, 0, 3, 5, 9, Integer.MAX_VALUE}, values);
+    }
+    
+    @Test
+    void testSort_DirectBufferWithPositionAndLimit_SortsOnlyRemaining() {
+        int[] values = new Random(109).ints(20_000).toArray();
+        IntBuffer buffer = ByteBuffer.allocateDirect(values.length * Integer.BYTES).asIntBuffer();
+        buffer.put(values);
+        buffer.position(100).limit(19_000);
+        
+        MappedFileSort.sort(buffer);
+        
+        assertEquals(100, buffer.position());
+        assertEquals(19_000, buffer.limit());
+        int[] expected = values.clone();
+        Arrays.sort(expected, 100, 19_000);
+        int[] actual = new int[values.length];
+        buffer.clear();
+        buffer.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+    
+    @Test
+    void testSort_NullAndEmptyBuffers_NoException() {
+        assertDoesNotThrow(() -> MappedFileSort.sort(null));
+        assertDoesNotThrow(() -> MappedFileSort.sort(IntBuffer.allocate(0)));
+    }
+    
+    @Test
+    void testSortFile_BigEndianFile_SortsInPlace() throws IOException {
+        int[] values = new Random(113).ints(100_000).toArray();
+        Path file = writeInts(values, ByteOrder.BIG_ENDIAN);
+        try {
+            MappedFileSort.sortFile(file);
+            
+            Arrays.sort(values);
+            assertArrayEquals(values, readInts(file, ByteOrder.BIG_ENDIAN));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void testSortFile_ManySmallSegments_SortsAcrossBoundaries() throws IOException {
+        // 2^10 ints per segment gives about 100 mapped segments
+        int[] values = new Random(127).ints(100_000, -1000, 1000).toArray();
+        Path file = writeInts(values, ByteOrder.LITTLE_ENDIAN);
+        try {
+            MappedFileSort.sortFile(file, ByteOrder.LITTLE_ENDIAN, 10);
+            
+            Arrays.sort(values);
+            assertArrayEquals(values, readInts(file, ByteOrder.LITTLE_ENDIAN));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void testSortFile_SortedAndReversedInput_SortsCorrectly() throws IOException {
+        int[] values = new int[200_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values.length - i;
+        }
+        Path file = writeInts(values, ByteOrder.BIG_ENDIAN);
+        try {
+            MappedFileSort.sortFile(file);
+            
+            Arrays.sort(values);
+            assertArrayEquals(values, readInts(file, ByteOrder.BIG_ENDIAN));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void testSortFile_SizeNotMultipleOfFour_ThrowsException() throws IOException {
+        Path file = Files.createTempFile("mapped-sort", ".bin");
+        try {
+            Files.write(file, new byte[]{1, 2, 3, 4, 5});
+            assertThrows(IllegalArgumentException.class, () -> MappedFileSort.sortFile(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    private static Path writeInts(int[] values, ByteOrder order) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES).order(order);
+        bytes.asIntBuffer().put(values);
+        Path file = Files.createTempFile("mapped-sort", ".bin");
+        Files.write(file, bytes.array());
+        return file;
+    }
+    
+    private static int[] readInts(Path file, ByteOrder order) throws IOException {
+        IntBuffer ints = ByteBuffer.wrap(Files.readAllBytes(file)).order(order).asIntBuffer();
+        int[] values = new int[ints.remaining()];
+        ints.get(values);
+        return values;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,15 @@
 package com.dsa.algorithms.sorting;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -100,7 +109,7 @@ class MergeSortTest {
     
     @Test
     void testMergeSort_NullArray_NoException() {
-        assertDoesNotThrow(() -> MergeSort.mergeSort(null));
+        assertDoesNotThrow(() -> MergeSort.mergeSort((int[]) null));
     }
     
     @Test
@@ -132,4 +141,269 @@ class MergeSortTest {
         MergeSort.mergeSort(arr);
         assertArrayEquals(new int[]{1, 2, 5, 8, 9}, arr);
     }
+    
+    @Test
+    void testParallelMergeSort_RandomLargeArray_MatchesArraysSort() {
+        int[] arr = new Random(42).ints(200_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        MergeSort.parallelMergeSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testParallelMergeSort_CustomPool_SortsCorrectly() {
+        int[] arr = new Random(7).ints(100_000, -50, 50).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            MergeSort.parallelMergeSort(arr, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testParallelMergeSort_SmallAndEdgeInputs_HandlesCorrectly() {
+        assertDoesNotThrow(() -> MergeSort.parallelMergeSort(null));
+        
+        int[] empty = {};
+        MergeSort.parallelMergeSort(empty);
+        assertEquals(0, empty.length);
+        
+        int[] small = {5, 2, 8, 1, 9};
+        MergeSort.parallelMergeSort(small);
+        assertArrayEquals(new int[]{1, 2, 5, 8, 9}, small);
+    }
+    
+    @Test
+    void testParallelMergeSort_NullPool_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> MergeSort.parallelMergeSort(new int[]{2, 1}, null));
+    }
+    
+    @Test
+    void testMergeSort_ReusedBuffer_SortsEachArray() {
+        int[] buffer = new int[64];
+        Random random = new Random(11);
+        
+        for (int round = 0; round < 100; round++) {
+            int[] arr = random.ints(random.nextInt(64)).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            MergeSort.mergeSort(arr, buffer);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testMergeSort_BufferTooSmall_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> MergeSort.mergeSort(new int[]{3, 2, 1}, new int[2]));
+        assertThrows(IllegalArgumentException.class,
+            () -> MergeSort.mergeSort(new int[]{3, 2, 1}, null));
+    }
+    
+    @Test
+    void testParallelMergeSort_CallerBuffer_SortsCorrectly() {
+        int[] arr = new Random(3).ints(50_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        MergeSort.parallelMergeSort(arr, new int[arr.length], ForkJoinPool.commonPool());
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testMergeSort_StringArrayWithComparator_SortsCorrectly() {
+        String[] arr = {"pear", "apple", "fig", "banana", "kiwi"};
+        MergeSort.mergeSort(arr, Comparator.naturalOrder());
+        assertArrayEquals(new String[]{"apple", "banana", "fig", "kiwi", "pear"}, arr);
+        
+        MergeSort.mergeSort(arr, Comparator.comparing(String::length).thenComparing(Comparator.reverseOrder()));
+        assertArrayEquals(new String[]{"fig", "pear", "kiwi", "apple", "banana"}, arr);
+    }
+    
+    @Test
+    void testMergeSort_RandomObjects_MatchArraysSort() {
+        Random random = new Random(71);
+        for (int round = 0; round < 100; round++) {
+            Integer[] arr = random.ints(random.nextInt(500), -50, 50).boxed().toArray(Integer[]::new);
+            Integer[] expected = arr.clone();
+            Arrays.sort(expected, Comparator.reverseOrder());
+            
+            MergeSort.mergeSort(arr, Comparator.reverseOrder());
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testMergeSort_Lists_SortsCorrectly() {
+        List<Integer> arrayList = new ArrayList<>(List.of(5, 3, 9, 1, 7));
+        List<Integer> linkedList = new LinkedList<>(List.of(5, 3, 9, 1, 7));
+        
+        MergeSort.mergeSort(arrayList, Comparator.naturalOrder());
+        MergeSort.mergeSort(linkedList, Comparator.naturalOrder());
+        
+        assertEquals(List.of(1, 3, 5, 7, 9), arrayList);
+        assertEquals(List.of(1, 3, 5, 7, 9), linkedList);
+        assertDoesNotThrow(() -> MergeSort.mergeSort((List<Integer>) null, Comparator.naturalOrder()));
+    }
+    
+    @Test
+    void testMergeSort_NullComparator_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> MergeSort.mergeSort(new String[]{"b", "a"}, null));
+    }
+    
+    @Test
+    void testMergeSort_EqualKeys_KeepOriginalOrder() {
+        // Each element is {key, original position}; only the key is compared
+        Random random = new Random(73);
+        int[][] arr = new int[10_000][];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = new int[]{random.nextInt(20), i};
+        }
+        
+        MergeSort.mergeSort(arr, Comparator.comparingInt(e -> e[0]));
+        
+        for (int i = 0; i < arr.length - 1; i++) {
+            assertTrue(arr[i][0] <= arr[i + 1][0]);
+            if (arr[i][0] == arr[i + 1][0]) {
+                assertTrue(arr[i][1] < arr[i + 1][1]);
+            }
+        }
+    }
+    
+    @Test
+    void testMergeSort_Range_SortsOnlyThatRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        MergeSort.mergeSort(arr, 2, 7);
+        assertArrayEquals(new int[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, arr);
+        
+        Random random = new Random(107);
+        for (int round = 0; round < 50; round++) {
+            int[] values = random.ints(300, -100, 100).toArray();
+            int from = random.nextInt(150);
+            int to = from + random.nextInt(151);
+            int[] expected = values.clone();
+            Arrays.sort(expected, from, to);
+            
+            MergeSort.mergeSort(values, from, to);
+            assertArrayEquals(expected, values);
+        }
+    }
+    
+    @Test
+    void testMergeSort_InvalidRange_ThrowsException() {
+        int[] arr = {3, 2, 1};
+        assertThrows(IndexOutOfBoundsException.class, () -> MergeSort.mergeSort(arr, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> MergeSort.mergeSort(arr, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> MergeSort.mergeSort(arr, 2, 1));
+        assertDoesNotThrow(() -> MergeSort.mergeSort((int[]) null, 0, 0));
+    }
+    
+    @Test
+    void testMergeSort_RangeWithBuffer_UsesBufferSizedToRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        int[] buffer = new int[4];
+        MergeSort.mergeSort(arr, 3, 7, buffer);
+        assertArrayEquals(new int[]{9, 8, 7, 3, 4, 5, 6, 2, 1, 0}, arr);
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> MergeSort.mergeSort(arr, 0, 10, buffer));
+    }
+    
+    @Test
+    void testMergeSort_LongShortCharArrays_MatchArraysSort() {
+        Random random = new Random(16);
+        long[] longs = random.longs(20000).toArray();
+        short[] shorts = new short[20000];
+        char[] chars = new char[20000];
+        for (int i = 0; i < 20000; i++) {
+            shorts[i] = (short) random.nextInt();
+            chars[i] = (char) random.nextInt(100);
+        }
+        long[] expectedLongs = longs.clone();
+        short[] expectedShorts = shorts.clone();
+        char[] expectedChars = chars.clone();
+        Arrays.sort(expectedLongs);
+        Arrays.sort(expectedShorts);
+        Arrays.sort(expectedChars);
+        
+        MergeSort.mergeSort(longs);
+        MergeSort.mergeSort(shorts);
+        MergeSort.mergeSort(chars);
+        
+        assertArrayEquals(expectedLongs, longs);
+        assertArrayEquals(expectedShorts, shorts);
+        assertArrayEquals(expectedChars, chars);
+    }
+    
+    @Test
+    void testMergeSort_FloatDoubleArrays_MatchArraysSort() {
+        Random random = new Random(17);
+        double[] doubles = random.doubles(20000, -100, 100).toArray();
+        float[] floats = new float[20000];
+        for (int i = 0; i < 20000; i++) {
+            floats[i] = (float) doubles[i];
+        }
+        double[] expectedDoubles = doubles.clone();
+        float[] expectedFloats = floats.clone();
+        Arrays.sort(expectedDoubles);
+        Arrays.sort(expectedFloats);
+        
+        MergeSort.mergeSort(doubles);
+        MergeSort.mergeSort(floats);
+        
+        assertArrayEquals(expectedDoubles, doubles);
+        assertArrayEquals(expectedFloats, floats);
+    }
+    
+    @Test
+    void testMergeSort_NaNAndSignedZeros_UseTotalOrder() {
+        double[] doubles = {Double.NaN, 0.0, 1.5, -0.0, Double.NEGATIVE_INFINITY, Double.NaN, -0.0, 0.0};
+        float[] floats = {0.0f, Float.NaN, -0.0f, Float.POSITIVE_INFINITY, -1.0f, -0.0f};
+        
+        MergeSort.mergeSort(doubles);
+        MergeSort.mergeSort(floats);
+        
+        assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, -0.0, -0.0, 0.0, 0.0, 1.5, Double.NaN, Double.NaN}, doubles);
+        assertArrayEquals(new float[]{-1.0f, -0.0f, -0.0f, 0.0f, Float.POSITIVE_INFINITY, Float.NaN}, floats);
+    }
+    
+    @Test
+    void testMergeSort_LargeDoubleArrayWithSpecialValues_MatchArraysSort() {
+        Random random = new Random(18);
+        double[] special = {Double.NaN, -0.0, 0.0, Double.MIN_VALUE, -Double.MAX_VALUE};
+        double[] arr = new double[20000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(4) == 0 ? special[random.nextInt(special.length)] : random.nextInt(50) - 25;
+        }
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        MergeSort.mergeSort(arr, 0, arr.length);
+        
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testMergeSort_PrimitiveRange_SortsOnlyThatRange() {
+        long[] longs = {9L, 5L, 3L, 1L, 7L, 0L};
+        char[] chars = {'z', 'c', 'b', 'a', 'y'};
+        
+        MergeSort.mergeSort(longs, 1, 5);
+        MergeSort.mergeSort(chars, 1, 4);
+        
+        assertArrayEquals(new long[]{9L, 1L, 3L, 5L, 7L, 0L}, longs);
+        assertArrayEquals(new char[]{'z', 'a', 'b', 'c', 'y'}, chars);
+        assertThrows(IndexOutOfBoundsException.class, () -> MergeSort.mergeSort(new float[3], 2, 1));
+        assertDoesNotThrow(() -> MergeSort.mergeSort((double[]) null));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Parallel Radix Sort algorithm
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "ParallelRadixSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.ParallelRadixSortTest"
+ * ./gradlew test --tests "*ParallelRadixSort*"
+ */
+class ParallelRadixSortTest {
+    
+    @Test
+    void testParallelRadixSort_NullAndEmptyArrays_NoException() {
+        assertDoesNotThrow(() -> ParallelRadixSort.parallelRadixSort(null));
+        
+        int[] empty = {};
+        ParallelRadixSort.parallelRadixSort(empty);
+        assertEquals(0, empty.length);
+    }
+    
+    @Test
+    void testParallelRadixSort_SmallArray_SortsCorrectly() {
+        int[] arr = {38, -27, 43, 3, -9, 82, 10};
+        ParallelRadixSort.parallelRadixSort(arr);
+        assertArrayEquals(new int[]{-27, -9, 3, 10, 38, 43, 82}, arr);
+    }
+    
+    @Test
+    void testParallelRadixSort_ExtremeValues_HandlesCorrectly() {
+        int[] arr = new int[100];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i % 2 == 0 ? Integer.MAX_VALUE - i : Integer.MIN_VALUE + i;
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        ParallelRadixSort.parallelRadixSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testParallelRadixSort_LargeRandomArray_MatchesArraysSort() {
+        int[] arr = new Random(47).ints(1_000_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        ParallelRadixSort.parallelRadixSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testParallelRadixSort_SkewedKeys_MatchesArraysSort() {
+        // Small non-negative keys share their upper bytes, so most levels are skipped
+        int[] arr = new Random(53).ints(500_000, 0, 1000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        ParallelRadixSort.parallelRadixSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testParallelRadixSort_CustomPool_SortsCorrectly() {
+        int[] arr = new Random(59).ints(300_000, -1_000_000, 1_000_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ParallelRadixSort.parallelRadixSort(arr, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testParallelRadixSort_RandomSizes_MatchArraysSort() {
+        Random random = new Random(61);
+        for (int round = 0; round < 100; round++) {
+            int[] arr = random.ints(random.nextInt(5000)).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            ParallelRadixSort.parallelRadixSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testParallelRadixSort_NullPool_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ParallelRadixSort.parallelRadixSort(new int[]{2, 1}, null));
+    }
+}
\ No newline at end of file
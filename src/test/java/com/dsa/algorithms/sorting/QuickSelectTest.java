@@ -0,0 +1,112 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for selection, partial sort and top-k
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "QuickSelectTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.QuickSelectTest"
+ * ./gradlew test --tests "*QuickSelect*"
+ */
+class QuickSelectTest {
+    
+    @Test
+    void testSelect_EveryRank_ReturnsSortedValue() {
+        int[] original = {9, 3, 7, 1, 8, 2, 6, 4, 5, 0, 3, 7};
+        int[] sorted = original.clone();
+        Arrays.sort(sorted);
+        
+        for (int k = 0; k < original.length; k++) {
+            int[] arr = original.clone();
+            assertEquals(sorted[k], QuickSelect.select(arr, k));
+            assertEquals(sorted[k], arr[k]);
+        }
+    }
+    
+    @Test
+    void testSelect_LargeRandomArray_PartitionsAroundK() {
+        Random random = new Random(42);
+        int[] original = random.ints(10000, -1000, 1000).toArray();
+        int[] sorted = original.clone();
+        Arrays.sort(sorted);
+        
+        for (int k : new int[]{0, 1, 137, 5000, 9998, 9999}) {
+            int[] arr = original.clone();
+            int value = QuickSelect.select(arr, k);
+            
+            assertEquals(sorted[k], value);
+            for (int i = 0; i < k; i++) {
+                assertTrue(arr[i] <= value);
+            }
+            for (int i = k + 1; i < arr.length; i++) {
+                assertTrue(arr[i] >= value);
+            }
+        }
+    }
+    
+    @Test
+    void testSelect_AllEqualAndSortedInputs_ReturnsCorrectValue() {
+        int[] equal = new int[5000];
+        Arrays.fill(equal, 7);
+        assertEquals(7, QuickSelect.select(equal, 2500));
+        
+        int[] ascending = new int[5000];
+        int[] descending = new int[5000];
+        for (int i = 0; i < 5000; i++) {
+            ascending[i] = i;
+            descending[i] = 5000 - i;
+        }
+        assertEquals(1234, QuickSelect.select(ascending, 1234));
+        assertEquals(1235, QuickSelect.select(descending, 1234));
+    }
+    
+    @Test
+    void testSelect_InvalidInput_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> QuickSelect.select(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> QuickSelect.select(new int[0], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> QuickSelect.select(new int[]{1, 2}, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> QuickSelect.select(new int[]{1, 2}, -1));
+    }
+    
+    @Test
+    void testPartialSort_SortsSmallestKIntoPrefix() {
+        Random random = new Random(7);
+        int[] original = random.ints(2000, 0, 500).toArray();
+        int[] sorted = original.clone();
+        Arrays.sort(sorted);
+        
+        for (int k : new int[]{0, 1, 10, 1000, 2000}) {
+            int[] arr = original.clone();
+            QuickSelect.partialSort(arr, k);
+            
+            assertArrayEquals(Arrays.copyOf(sorted, k), Arrays.copyOf(arr, k));
+            int[] all = arr.clone();
+            Arrays.sort(all);
+            assertArrayEquals(sorted, all);
+        }
+    }
+    
+    @Test
+    void testTopK_ReturnsLargestDescendingWithoutModifyingInput() {
+        int[] arr = {5, 1, 9, 3, 9, 7, 2};
+        int[] copy = arr.clone();
+        
+        assertArrayEquals(new int[]{9, 9, 7}, QuickSelect.topK(arr, 3));
+        assertArrayEquals(new int[0], QuickSelect.topK(arr, 0));
+        assertArrayEquals(new int[]{9, 9, 7, 5, 3, 2, 1}, QuickSelect.topK(arr, 7));
+        assertArrayEquals(copy, arr);
+    }
+    
+    @Test
+    void testTopK_InvalidK_ThrowsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> QuickSelect.topK(new int[]{1, 2}, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> QuickSelect.partialSort(new int[]{1, 2}, -1));
+    }
+}
\ No newline at end of file
@@ -1,6 +1,14 @@
 package com.dsa.algorithms.sorting;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -100,7 +108,7 @@ class QuickSortTest {
     
     @Test
     void testQuickSort_NullArray_NoException() {
-        assertDoesNotThrow(() -> QuickSort.quickSort(null));
+        assertDoesNotThrow(() -> QuickSort.quickSort((int[]) null));
     }
     
     @Test
@@ -122,4 +130,215 @@ class QuickSortTest {
         QuickSort.quickSort(arr);
         assertArrayEquals(expected, arr);
     }
+    
+    @Test
+    void testQuickSort_LargeSortedAndReversed_SortsWithoutStackOverflow() {
+        int n = 1_000_000;
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - i;
+        }
+        
+        QuickSort.quickSort(sorted);
+        QuickSort.quickSort(reversed);
+        
+        for (int i = 0; i < n - 1; i++) {
+            assertTrue(sorted[i] <= sorted[i + 1]);
+            assertTrue(reversed[i] <= reversed[i + 1]);
+        }
+    }
+    
+    @Test
+    void testQuickSort_AdversarialPatterns_MatchArraysSort() {
+        int n = 100_000;
+        int[] organPipe = new int[n];
+        int[] sawtooth = new int[n];
+        int[] fewUnique = new int[n];
+        Random random = new Random(5);
+        for (int i = 0; i < n; i++) {
+            organPipe[i] = i < n / 2 ? i : n - i;
+            sawtooth[i] = i % 1000;
+            fewUnique[i] = random.nextInt(4);
+        }
+        
+        for (int[] arr : new int[][]{organPipe, sawtooth, fewUnique}) {
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            QuickSort.quickSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testQuickSort_RandomArrays_MatchArraysSort() {
+        Random random = new Random(17);
+        for (int round = 0; round < 200; round++) {
+            int[] arr = random.ints(random.nextInt(500), -100, 100).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            QuickSort.quickSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testQuickSort_StringArrayWithComparator_SortsCorrectly() {
+        String[] arr = {"pear", "apple", "fig", "banana", "kiwi"};
+        QuickSort.quickSort(arr, Comparator.naturalOrder());
+        assertArrayEquals(new String[]{"apple", "banana", "fig", "kiwi", "pear"}, arr);
+        
+        QuickSort.quickSort(arr, Comparator.comparing(String::length).thenComparing(Comparator.reverseOrder()));
+        assertArrayEquals(new String[]{"fig", "pear", "kiwi", "apple", "banana"}, arr);
+    }
+    
+    @Test
+    void testQuickSort_RandomObjects_MatchArraysSort() {
+        Random random = new Random(71);
+        for (int round = 0; round < 100; round++) {
+            Integer[] arr = random.ints(random.nextInt(500), -50, 50).boxed().toArray(Integer[]::new);
+            Integer[] expected = arr.clone();
+            Arrays.sort(expected, Comparator.reverseOrder());
+            
+            QuickSort.quickSort(arr, Comparator.reverseOrder());
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testQuickSort_Lists_SortsCorrectly() {
+        List<Integer> arrayList = new ArrayList<>(List.of(5, 3, 9, 1, 7));
+        List<Integer> linkedList = new LinkedList<>(List.of(5, 3, 9, 1, 7));
+        
+        QuickSort.quickSort(arrayList, Comparator.naturalOrder());
+        QuickSort.quickSort(linkedList, Comparator.naturalOrder());
+        
+        assertEquals(List.of(1, 3, 5, 7, 9), arrayList);
+        assertEquals(List.of(1, 3, 5, 7, 9), linkedList);
+        assertDoesNotThrow(() -> QuickSort.quickSort((List<Integer>) null, Comparator.naturalOrder()));
+    }
+    
+    @Test
+    void testQuickSort_NullComparator_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> QuickSort.quickSort(new String[]{"b", "a"}, null));
+    }
+    
+    @Test
+    void testQuickSort_Range_SortsOnlyThatRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        QuickSort.quickSort(arr, 2, 7);
+        assertArrayEquals(new int[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, arr);
+        
+        Random random = new Random(107);
+        for (int round = 0; round < 50; round++) {
+            int[] values = random.ints(300, -100, 100).toArray();
+            int from = random.nextInt(150);
+            int to = from + random.nextInt(151);
+            int[] expected = values.clone();
+            Arrays.sort(expected, from, to);
+            
+            QuickSort.quickSort(values, from, to);
+            assertArrayEquals(expected, values);
+        }
+    }
+    
+    @Test
+    void testQuickSort_InvalidRange_ThrowsException() {
+        int[] arr = {3, 2, 1};
+        assertThrows(IndexOutOfBoundsException.class, () -> QuickSort.quickSort(arr, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> QuickSort.quickSort(arr, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> QuickSort.quickSort(arr, 2, 1));
+        assertDoesNotThrow(() -> QuickSort.quickSort((int[]) null, 0, 0));
+    }
+    
+    @Test
+    void testQuickSort_LongShortCharArrays_MatchArraysSort() {
+        Random random = new Random(16);
+        long[] longs = random.longs(20000).toArray();
+        short[] shorts = new short[20000];
+        char[] chars = new char[20000];
+        for (int i = 0; i < 20000; i++) {
+            shorts[i] = (short) random.nextInt();
+            chars[i] = (char) random.nextInt(100);
+        }
+        long[] expectedLongs = longs.clone();
+        short[] expectedShorts = shorts.clone();
+        char[] expectedChars = chars.clone();
+        Arrays.sort(expectedLongs);
+        Arrays.sort(expectedShorts);
+        Arrays.sort(expectedChars);
+        
+        QuickSort.quickSort(longs);
+        QuickSort.quickSort(shorts);
+        QuickSort.quickSort(chars);
+        
+        assertArrayEquals(expectedLongs, longs);
+        assertArrayEquals(expectedShorts, shorts);
+        assertArrayEquals(expectedChars, chars);
+    }
+    
+    @Test
+    void testQuickSort_FloatDoubleArrays_MatchArraysSort() {
+        Random random = new Random(17);
+        double[] doubles = random.doubles(20000, -100, 100).toArray();
+        float[] floats = new float[20000];
+        for (int i = 0; i < 20000; i++) {
+            floats[i] = (float) doubles[i];
+        }
+        double[] expectedDoubles = doubles.clone();
+        float[] expectedFloats = floats.clone();
+        Arrays.sort(expectedDoubles);
+        Arrays.sort(expectedFloats);
+        
+        QuickSort.quickSort(doubles);
+        QuickSort.quickSort(floats);
+        
+        assertArrayEquals(expectedDoubles, doubles);
+        assertArrayEquals(expectedFloats, floats);
+    }
+    
+    @Test
+    void testQuickSort_NaNAndSignedZeros_UseTotalOrder() {
+        double[] doubles = {Double.NaN, 0.0, 1.5, -0.0, Double.NEGATIVE_INFINITY, Double.NaN, -0.0, 0.0};
+        float[] floats = {0.0f, Float.NaN, -0.0f, Float.POSITIVE_INFINITY, -1.0f, -0.0f};
+        
+        QuickSort.quickSort(doubles);
+        QuickSort.quickSort(floats);
+        
+        assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, -0.0, -0.0, 0.0, 0.0, 1.5, Double.NaN, Double.NaN}, doubles);
+        assertArrayEquals(new float[]{-1.0f, -0.0f, -0.0f, 0.0f, Float.POSITIVE_INFINITY, Float.NaN}, floats);
+    }
+    
+    @Test
+    void testQuickSort_LargeDoubleArrayWithSpecialValues_MatchArraysSort() {
+        Random random = new Random(18);
+        double[] special = {Double.NaN, -0.0, 0.0, Double.MIN_VALUE, -Double.MAX_VALUE};
+        double[] arr = new double[20000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(4) == 0 ? special[random.nextInt(special.length)] : random.nextInt(50) - 25;
+        }
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        QuickSort.quickSort(arr, 0, arr.length);
+        
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testQuickSort_PrimitiveRange_SortsOnlyThatRange() {
+        long[] longs = {9L, 5L, 3L, 1L, 7L, 0L};
+        char[] chars = {'z', 'c', 'b', 'a', 'y'};
+        
+        QuickSort.quickSort(longs, 1, 5);
+        QuickSort.quickSort(chars, 1, 4);
+        
+        assertArrayEquals(new long[]{9L, 1L, 3L, 5L, 7L, 0L}, longs);
+        assertArrayEquals(new char[]{'z', 'a', 'b', 'c', 'y'}, chars);
+        assertThrows(IndexOutOfBoundsException.class, () -> QuickSort.quickSort(new float[3], 2, 1));
+        assertDoesNotThrow(() -> QuickSort.quickSort((double[]) null));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Radix Sort algorithm
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "RadixSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.RadixSortTest"
+ * ./gradlew test --tests "*RadixSort*"
+ */
+class RadixSortTest {
+    
+    @Test
+    void testRadixSort_EmptyAndNullArrays_NoException() {
+        assertDoesNotThrow(() -> RadixSort.radixSort((int[]) null));
+        assertDoesNotThrow(() -> RadixSort.radixSort((long[]) null));
+        
+        int[] empty = {};
+        RadixSort.radixSort(empty);
+        assertEquals(0, empty.length);
+    }
+    
+    @Test
+    void testRadixSort_SingleElement_NoChange() {
+        int[] arr = {42};
+        RadixSort.radixSort(arr);
+        assertArrayEquals(new int[]{42}, arr);
+    }
+    
+    @Test
+    void testRadixSort_WithNegativeNumbers_HandlesCorrectly() {
+        int[] arr = {-5, 3, -1, 0, 7, -3, 256, -256};
+        RadixSort.radixSort(arr);
+        assertArrayEquals(new int[]{-256, -5, -3, -1, 0, 3, 7, 256}, arr);
+    }
+    
+    @Test
+    void testRadixSort_ExtremeValues_HandlesCorrectly() {
+        int[] arr = {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1, 1};
+        RadixSort.radixSort(arr);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}, arr);
+        
+        long[] longs = {Long.MAX_VALUE, Long.MIN_VALUE, 0L, -1L, 1L};
+        RadixSort.radixSort(longs);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE}, longs);
+    }
+    
+    @Test
+    void testRadixSort_RandomInts_MatchArraysSort() {
+        int[] arr = new Random(31).ints(100_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        RadixSort.radixSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testRadixSort_RandomLongs_MatchArraysSort() {
+        long[] arr = new Random(37).longs(100_000).toArray();
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        RadixSort.radixSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testRadixSort_SmallKeys_SkipsConstantBytes() {
+        // Only the low byte varies, so three of the four passes are skipped and the
+        // single remaining pass leaves the result in the scratch buffer
+        int[] arr = new Random(41).ints(10_000, 0, 256).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        RadixSort.radixSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testRadixSort_AllSameElements_HandlesCorrectly() {
+        long[] arr = new long[1000];
+        Arrays.fill(arr, -9L);
+        
+        RadixSort.radixSort(arr);
+        
+        for (long value : arr) {
+            assertEquals(-9L, value);
+        }
+    }
+    
+    @Test
+    void testRadixSort_ReusedBuffer_SortsEachArray() {
+        int[] intBuffer = new int[128];
+        long[] longBuffer = new long[128];
+        Random random = new Random(43);
+        
+        for (int round = 0; round < 50; round++) {
+            int[] ints = random.ints(random.nextInt(128)).toArray();
+            long[] longs = random.longs(random.nextInt(128)).toArray();
+            int[] expectedInts = ints.clone();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedInts);
+            Arrays.sort(expectedLongs);
+            
+            RadixSort.radixSort(ints, intBuffer);
+            RadixSort.radixSort(longs, longBuffer);
+            assertArrayEquals(expectedInts, ints);
+            assertArrayEquals(expectedLongs, longs);
+        }
+    }
+    
+    @Test
+    void testRadixSort_BufferTooSmall_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> RadixSort.radixSort(new int[]{3, 2, 1}, new int[2]));
+        assertThrows(IllegalArgumentException.class,
+            () -> RadixSort.radixSort(new long[]{3, 2, 1}, null));
+    }
+}
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.dsa.algorithms.sorting;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -113,4 +117,32 @@ class SelectionSortTest {
         SelectionSort.selectionSort(arr);
         assertArrayEquals(new int[]{1, 2, 5, 7, 9}, arr);
     }
+    
+    @Test
+    void testSelectionSort_Range_SortsOnlyThatRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        SelectionSort.selectionSort(arr, 2, 7);
+        assertArrayEquals(new int[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, arr);
+        
+        Random random = new Random(107);
+        for (int round = 0; round < 50; round++) {
+            int[] values = random.ints(300, -100, 100).toArray();
+            int from = random.nextInt(150);
+            int to = from + random.nextInt(151);
+            int[] expected = values.clone();
+            Arrays.sort(expected, from, to);
+            
+            SelectionSort.selectionSort(values, from, to);
+            assertArrayEquals(expected, values);
+        }
+    }
+    
+    @Test
+    void testSelectionSort_InvalidRange_ThrowsException() {
+        int[] arr = {3, 2, 1};
+        assertThrows(IndexOutOfBoundsException.class, () -> SelectionSort.selectionSort(arr, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> SelectionSort.selectionSort(arr, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> SelectionSort.selectionSort(arr, 2, 1));
+        assertDoesNotThrow(() -> SelectionSort.selectionSort(null, 0, 0));
+    }
 }
\ No newline at end of file
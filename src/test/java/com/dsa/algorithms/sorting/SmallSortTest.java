@@ -0,0 +1,95 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the small-array sorting kernels
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "SmallSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.SmallSortTest"
+ * ./gradlew test --tests "*SmallSort*"
+ */
+class SmallSortTest {
+    
+    @Test
+    void testNetworkSort_AllZeroOneInputs_SortsEverySize() {
+        // By the 0-1 principle a network that sorts every 0/1 input sorts every input
+        for (int n = 2; n <= SmallSort.MAX_NETWORK_SIZE; n++) {
+            for (int bits = 0; bits < (1 << n); bits++) {
+                int[] arr = new int[n];
+                for (int i = 0; i < n; i++) {
+                    arr[i] = (bits >>> i) & 1;
+                }
+                
+                SmallSort.networkSort(arr, 0, n);
+                
+                for (int i = 0; i < n - 1; i++) {
+                    assertTrue(arr[i] <= arr[i + 1], "network for " + n + " failed on " + bits);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void testNetworkSort_SortsOnlyTheGivenRange() {
+        int[] arr = {9, 8, 5, 3, 7, 1, 0, -1};
+        SmallSort.networkSort(arr, 2, 6);
+        assertArrayEquals(new int[]{9, 8, 1, 3, 5, 7, 0, -1}, arr);
+    }
+    
+    @Test
+    void testNetworkSort_TooManyElements_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> SmallSort.networkSort(new int[17], 0, 17));
+    }
+    
+    @Test
+    void testKernels_ExtremeValues_HandlesCorrectly() {
+        int[] expected = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+        
+        int[] network = {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1, 1};
+        int[] insertion = network.clone();
+        int[] binary = network.clone();
+        SmallSort.networkSort(network, 0, 5);
+        SmallSort.insertionSort(insertion, 0, 5);
+        SmallSort.binaryInsertionSort(binary, 0, 5);
+        
+        assertArrayEquals(expected, network);
+        assertArrayEquals(expected, insertion);
+        assertArrayEquals(expected, binary);
+    }
+    
+    @Test
+    void testSort_RandomRangesOfEverySize_MatchArraysSort() {
+        Random random = new Random(97);
+        for (int n = 0; n <= 80; n++) {
+            for (int round = 0; round < 20; round++) {
+                int[] arr = random.ints(n + 4, -10, 10).toArray();
+                int[] expected = arr.clone();
+                Arrays.sort(expected, 2, n + 2);
+                
+                SmallSort.sort(arr, 2, n + 2);
+                assertArrayEquals(expected, arr);
+            }
+        }
+    }
+    
+    @Test
+    void testBinaryInsertionSort_RandomArrays_MatchArraysSort() {
+        Random random = new Random(101);
+        for (int round = 0; round < 100; round++) {
+            int[] arr = random.ints(random.nextInt(100)).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            SmallSort.binaryInsertionSort(arr, 0, arr.length);
+            assertArrayEquals(expected, arr);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Sorter view of each sorting algorithm
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "SortAlgorithmTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.SortAlgorithmTest"
+ * ./gradlew test --tests "*SortAlgorithm*"
+ */
+class SortAlgorithmTest {
+    
+    @Test
+    void testSort_EveryAlgorithm_MatchesArraysSort() {
+        Random random = new Random(42);
+        int[] original = random.ints(3000, -5000, 5000).toArray();
+        int[] expected = original.clone();
+        Arrays.sort(expected);
+        
+        for (SortAlgorithm algorithm : SortAlgorithm.values()) {
+            int[] arr = original.clone();
+            algorithm.sort(arr);
+            assertArrayEquals(expected, arr, algorithm.name());
+        }
+    }
+    
+    @Test
+    void testSort_EveryAlgorithm_SortsOnlyTheRange() {
+        int[] original = {9, 8, 5, 3, 7, 1, 6, 0};
+        int[] expected = {9, 8, 1, 3, 5, 6, 7, 0};
+        
+        for (SortAlgorithm algorithm : SortAlgorithm.values()) {
+            int[] arr = original.clone();
+            algorithm.sort(arr, 2, 7);
+            assertArrayEquals(expected, arr, algorithm.name());
+        }
+    }
+    
+    @Test
+    void testSort_EveryAlgorithm_HandlesNullAndInvalidRange() {
+        for (SortAlgorithm algorithm : SortAlgorithm.values()) {
+            assertDoesNotThrow(() -> algorithm.sort(null));
+            assertDoesNotThrow(() -> algorithm.sort(null, 0, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> algorithm.sort(new int[3], 2, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> algorithm.sort(new int[3], 0, 4));
+        }
+    }
+    
+    @Test
+    void testSorter_CanBeImplementedWithALambda() {
+        Sorter sorter = (arr, fromIndex, toIndex) -> Arrays.sort(arr, fromIndex, toIndex);
+        int[] arr = {3, 1, 2};
+        
+        sorter.sort(arr);
+        
+        assertArrayEquals(new int[]{1, 2, 3}, arr);
+    }
+    
+    @Test
+    void testIsStable_ReportsEachAlgorithmsGuarantee() {
+        assertTrue(SortAlgorithm.MERGE.isStable());
+        assertTrue(SortAlgorithm.IN_PLACE_MERGE.isStable());
+        assertTrue(SortAlgorithm.TIM.isStable());
+        assertTrue(SortAlgorithm.INSERTION.isStable());
+        assertFalse(SortAlgorithm.QUICK.isStable());
+        assertFalse(SortAlgorithm.DUAL_PIVOT_QUICK.isStable());
+        assertFalse(SortAlgorithm.SELECTION.isStable());
+        assertFalse(new AdaptiveSorter(1).isStable());
+        
+        Sorter lambda = (arr, fromIndex, toIndex) -> Arrays.sort(arr, fromIndex, toIndex);
+        assertFalse(lambda.isStable());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Tim Sort algorithm
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "TimSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.TimSortTest"
+ * ./gradlew test --tests "*TimSort*"
+ */
+class TimSortTest {
+    
+    @Test
+    void testTimSort_NullAndEmptyArrays_NoException() {
+        assertDoesNotThrow(() -> TimSort.timSort(null));
+        
+        int[] empty = {};
+        TimSort.timSort(empty);
+        assertEquals(0, empty.length);
+    }
+    
+    @Test
+    void testTimSort_SmallArray_SortsCorrectly() {
+        int[] arr = {38, 27, 43, 3, 9, 82, 10};
+        TimSort.timSort(arr);
+        assertArrayEquals(new int[]{3, 9, 10, 27, 38, 43, 82}, arr);
+    }
+    
+    @Test
+    void testTimSort_ExtremeValues_HandlesCorrectly() {
+        int[] arr = {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1, 1};
+        TimSort.timSort(arr);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}, arr);
+    }
+    
+    @Test
+    void testTimSort_ConcatenatedSortedChunks_SortsCorrectly() {
+        // Simulates shards that were each sorted upstream
+        Random random = new Random(79);
+        int[] arr = new int[100_000];
+        int chunk = 10_000;
+        for (int start = 0; start < arr.length; start += chunk) {
+            for (int i = start; i < start + chunk; i++) {
+                arr[i] = random.nextInt(1_000_000);
+            }
+            Arrays.sort(arr, start, start + chunk);
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        TimSort.timSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testTimSort_DescendingAndAscendingRuns_SortsCorrectly() {
+        int[] arr = new int[50_000];
+        for (int i = 0; i < arr.length; i++) {
+            int block = i / 5000;
+            arr[i] = block % 2 == 0 ? i : arr.length - i;
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        TimSort.timSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testTimSort_NearlySorted_SortsCorrectly() {
+        Random random = new Random(83);
+        int[] arr = new int[100_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i;
+        }
+        for (int swaps = 0; swaps < 100; swaps++) {
+            int i = random.nextInt(arr.length);
+            int j = random.nextInt(arr.length);
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        TimSort.timSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+    
+    @Test
+    void testTimSort_RandomArrays_MatchArraysSort() {
+        Random random = new Random(89);
+        for (int round = 0; round < 300; round++) {
+            int bound = round % 2 == 0 ? 10 : Integer.MAX_VALUE;
+            int[] arr = random.ints(random.nextInt(3000), 0, bound).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            TimSort.timSort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testTimSort_Range_SortsOnlyThatRange() {
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        TimSort.timSort(arr, 2, 7);
+        assertArrayEquals(new int[]{9, 8, 3, 4, 5, 6, 7, 2, 1, 0}, arr);
+        
+        Random random = new Random(107);
+        for (int round = 0; round < 50; round++) {
+            int[] values = random.ints(300, -100, 100).toArray();
+            int from = random.nextInt(150);
+            int to = from + random.nextInt(151);
+            int[] expected = values.clone();
+            Arrays.sort(expected, from, to);
+            
+            TimSort.timSort(values, from, to);
+            assertArrayEquals(expected, values);
+        }
+    }
+    
+    @Test
+    void testTimSort_InvalidRange_ThrowsException() {
+        int[] arr = {3, 2, 1};
+        assertThrows(IndexOutOfBoundsException.class, () -> TimSort.timSort(arr, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> TimSort.timSort(arr, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> TimSort.timSort(arr, 2, 1));
+        assertDoesNotThrow(() -> TimSort.timSort(null, 0, 0));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.dsa.algorithms.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SIMD quick sort and its scalar fallback
+ * 
+ * Whether the vector kernel is used depends on how the JVM was started; the build runs
+ * tests with --add-modules jdk.incubator.vector when the JDK supports it. The fallback
+ * path is also tested directly by passing no kernel.
+ * 
+ * Run these tests from command line:
+ * ./gradlew test --tests "VectorizedSortTest"
+ * ./gradlew test --tests "com.dsa.algorithms.sorting.VectorizedSortTest"
+ * ./gradlew test --tests "*VectorizedSort*"
+ */
+class VectorizedSortTest {
+    
+    @Test
+    void testSort_EdgeCases_HandlesCorrectly() {
+        assertDoesNotThrow(() -> VectorizedSort.sort(null));
+        assertDoesNotThrow(() -> VectorizedSort.sort(null, 0, 0));
+        
+        int[] empty = {};
+        VectorizedSort.sort(empty);
+        assertArrayEquals(new int[]{}, empty);
+        
+        int[] single = {7};
+        VectorizedSort.sort(single);
+        assertArrayEquals(new int[]{7}, single);
+    }
+    
+    @Test
+    void testSort_EverySizeAroundTheBlockAndLaneWidths_MatchArraysSort() {
+        Random random = new Random(42);
+        for (int n = 2; n <= 200; n++) {
+            int[] arr = random.ints(n).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            
+            VectorizedSort.sort(arr);
+            
+            assertArrayEquals(expected, arr, "n = " + n);
+        }
+    }
+    
+    @Test
+    void testSort_LargeDistributions_MatchArraysSort() {
+        Random random = new Random(7);
+        int n = 100000;
+        int[][] inputs = {
+            random.ints(n).toArray(),
+            random.ints(n, 0, 3).toArray(),
+            random.ints(n, -50, 50).toArray(),
+            new int[n],
+            new int[n],
+            new int[n]
+        };
+        for (int i = 0; i < n; i++) {
+            inputs[4][i] = i;
+            inputs[5][i] = i < n / 2 ? -i : i;
+        }
+        inputs[0][0] = Integer.MIN_VALUE;
+        inputs[0][1] = Integer.MAX_VALUE;
+        
+        for (int[] arr : inputs) {
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            VectorizedSort.sort(arr);
+            assertArrayEquals(expected, arr);
+        }
+    }
+    
+    @Test
+    void testSort_Range_SortsOnlyThatRange() {
+        int[] arr = new Random(3).ints(1000, 0, 100).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected, 13, 987);
+        
+        VectorizedSort.sort(arr, 13, 987);
+        
+        assertArrayEquals(expected, arr);
+        assertThrows(IndexOutOfBoundsException.class, () -> VectorizedSort.sort(arr, 10, 5));
+    }
+    
+    @Test
+    void testSort_WithoutKernel_FallsBackToScalarSort() {
+        int[] arr = new Random(11).ints(5000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        
+        VectorizedSort.sort(arr, 0, arr.length, null);
+        
+        assertArrayEquals(expected, arr);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.dsa.algorithms.searching;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernel for LinearSearch
+ * 
+ * Compiled separately for Java 17 with --add-modules jdk.incubator.vector and loaded by
+ * name, so the rest of the project never links against the incubator module.
+ * 
+ * Every scan compares a preferred-width vector of elements against a broadcast of the
+ * target and works on the resulting lane mask: firstTrue() gives the first match,
+ * trueCount() the number of matches, and the set bits of toLong() the matching lanes.
+ * The few elements after the last full vector are checked one at a time.
+ * 
+ * findAll tests anyTrue() before turning a mask into bits: toLong() is far slower than
+ * the comparison itself, and most vectors of a filtered buffer hold no match.
+ */
+class VectorSearchKernel implements LinearSearch.Kernel {
+    
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    
+    private static final int LANES = SPECIES.length();
+    
+    @Override
+    public int indexOf(int[] arr, int fromIndex, int toIndex, int target) {
+        int i = fromIndex;
+        for (; i <= toIndex - LANES; i += LANES) {
+            VectorMask<Integer> equal = IntVector.fromArray(SPECIES, arr, i).compare(VectorOperators.EQ, target);
+            if (equal.anyTrue()) {
+                return i + equal.firstTrue();
+            }
+        }
+        for (; i < toIndex; i++) {
+            if (arr[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    @Override
+    public int count(int[] arr, int fromIndex, int toIndex, int target) {
+        int count = 0;
+        int i = fromIndex;
+        for (; i <= toIndex - LANES; i += LANES) {
+            count += IntVector.fromArray(SPECIES, arr, i).compare(VectorOperators.EQ, target).trueCount();
+        }
+        for (; i < toIndex; i++) {
+            if (arr[i] == target) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    @Override
+    public int findAll(int[] arr, int fromIndex, int toIndex, int target, int[] out) {
+        int written = 0;
+        int i = fromIndex;
+        for (; i <= toIndex - LANES && written < out.length; i += LANES) {
+            VectorMask<Integer> equal = IntVector.fromArray(SPECIES, arr, i).compare(VectorOperators.EQ, target);
+            if (!equal.anyTrue()) {
+                continue;
+            }
+            long lanes = equal.toLong();
+            while (lanes != 0 && written < out.length) {
+                out[written++] = i + Long.numberOfTrailingZeros(lanes);
+                lanes &= lanes - 1;
+            }
+        }
+        for (; i < toIndex && written < out.length; i++) {
+            if (arr[i] == target) {
+                out[written++] = i;
+            }
+        }
+        return written;
+    }
+}
\ No newline at end of file
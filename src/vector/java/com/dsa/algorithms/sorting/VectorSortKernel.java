@@ -0,0 +1,114 @@
+package com.dsa.algorithms.sorting;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernel for VectorizedSort
+ * 
+ * Compiled separately for Java 17 with --add-modules jdk.incubator.vector and loaded by
+ * name, so the rest of the project never links against the incubator module.
+ * 
+ * Partition: Java 17's Vector API has no compress operation, so packing the selected
+ * lanes of a vector to the front is done with a precomputed shuffle per lane mask. The
+ * table has 2^lanes entries, which is why partitioning uses 8-lane (256-bit) vectors
+ * even on wider hardware. Lanes below the pivot are written back into the array behind
+ * the read position; the other lanes go to the scratch buffer and are copied in after
+ * the loop. Each store writes a full vector and advances only by the number of
+ * selected lanes; the extra lanes land on slots that are rewritten later, which is why
+ * scratch needs maxLanes() elements of headroom.
+ * 
+ * Small-block sort: each element's final position is its rank, the number of elements
+ * smaller than it plus the number of equal elements before it. The counts come from
+ * comparing a broadcast of the element against the whole block, one preferred-width
+ * vector at a time.
+ */
+class VectorSortKernel implements VectorizedSort.Kernel {
+    
+    private static final VectorSpecies<Integer> PARTITION_SPECIES = IntVector.SPECIES_256;
+    
+    private static final VectorSpecies<Integer> RANK_SPECIES = IntVector.SPECIES_PREFERRED;
+    
+    private static final int PARTITION_LANES = PARTITION_SPECIES.length();
+    
+    /** COMPRESS[bits] moves the lanes whose bit is set to the front, in order */
+    private static final VectorShuffle<Integer>[] COMPRESS = buildCompressTable();
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorShuffle<Integer>[] buildCompressTable() {
+        VectorShuffle<Integer>[] table = new VectorShuffle[1 << PARTITION_LANES];
+        int[] order = new int[PARTITION_LANES];
+        for (int bits = 0; bits < table.length; bits++) {
+            int next = 0;
+            for (int lane = 0; lane < PARTITION_LANES; lane++) {
+                if ((bits & (1 << lane)) != 0) order[next++] = lane;
+            }
+            for (int lane = 0; lane < PARTITION_LANES; lane++) {
+                if ((bits & (1 << lane)) == 0) order[next++] = lane;
+            }
+            table[bits] = VectorShuffle.fromArray(PARTITION_SPECIES, order, 0);
+        }
+        return table;
+    }
+    
+    @Override
+    public int partition(int[] arr, int fromIndex, int toIndex, int pivot, boolean inclusive, int[] scratch) {
+        VectorOperators.Comparison test = inclusive ? VectorOperators.LE : VectorOperators.LT;
+        int write = fromIndex;
+        int spilled = 0;
+        int read = fromIndex;
+        
+        for (int bound = toIndex - PARTITION_LANES; read <= bound; read += PARTITION_LANES) {
+            IntVector v = IntVector.fromArray(PARTITION_SPECIES, arr, read);
+            int bits = (int) v.compare(test, pivot).toLong();
+            int selected = Integer.bitCount(bits);
+            
+            v.rearrange(COMPRESS[bits]).intoArray(arr, write);
+            v.rearrange(COMPRESS[~bits & (COMPRESS.length - 1)]).intoArray(scratch, spilled);
+            write += selected;
+            spilled += PARTITION_LANES - selected;
+        }
+        
+        for (; read < toIndex; read++) {
+            int value = arr[read];
+            if (inclusive ? value <= pivot : value < pivot) {
+                arr[write++] = value;
+            } else {
+                scratch[spilled++] = value;
+            }
+        }
+        
+        System.arraycopy(scratch, 0, arr, write, spilled);
+        return write;
+    }
+    
+    @Override
+    public void sortSmall(int[] arr, int fromIndex, int toIndex, int[] scratch) {
+        int length = toIndex - fromIndex;
+        int lanes = RANK_SPECIES.length();
+        
+        for (int i = 0; i < length; i++) {
+            int value = arr[fromIndex + i];
+            int rank = 0;
+            for (int offset = 0; offset < length; offset += lanes) {
+                VectorMask<Integer> inBlock = RANK_SPECIES.indexInRange(offset, length);
+                IntVector block = IntVector.fromArray(RANK_SPECIES, arr, fromIndex + offset, inBlock);
+                VectorMask<Integer> before = RANK_SPECIES.indexInRange(offset, i);
+                
+                rank += block.compare(VectorOperators.LT, value, inBlock).trueCount();
+                rank += block.compare(VectorOperators.EQ, value, before).trueCount();
+            }
+            scratch[rank] = value;
+        }
+        
+        System.arraycopy(scratch, 0, arr, fromIndex, length);
+    }
+    
+    @Override
+    public int maxLanes() {
+        return Math.max(PARTITION_LANES, RANK_SPECIES.length());
+    }
+}
\ No newline at end of file